@@ -7,12 +7,14 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 final class BetterScoreBoardConfig {
 
     static final int MAX_PAGES = 12;
-    private static final int HARD_MAX_LINES = 12;
+    private static final int HARD_MAX_LINES = HudLayoutSpec.MAX_LINES;
     static final long MIN_REFRESH_MS = 1_000L;
 
     private final String title;
@@ -28,8 +30,11 @@ final class BetterScoreBoardConfig {
     private final int offsetTop;
     private final boolean dividerVisible;
     private final boolean logoVisible;
+    // Placeholder name -> memo TTL, from the placeholderCacheSeconds section.
+    private final Map<String, Long> placeholderCacheMillis;
+    private final AdaptiveRefresh adaptiveRefresh;
 
-    private BetterScoreBoardConfig(String title, String logoTexturePath, int maxLines, long refreshMillis, List<String> lines, List<PageConfig> pages, boolean rotationEnabled, int activePage, Path dataDir, int offsetRight, int offsetTop, boolean dividerVisible, boolean logoVisible) {
+    private BetterScoreBoardConfig(String title, String logoTexturePath, int maxLines, long refreshMillis, List<String> lines, List<PageConfig> pages, boolean rotationEnabled, int activePage, Path dataDir, int offsetRight, int offsetTop, boolean dividerVisible, boolean logoVisible, Map<String, Long> placeholderCacheMillis, AdaptiveRefresh adaptiveRefresh) {
         this.title = title;
         this.logoTexturePath = logoTexturePath;
         this.maxLines = maxLines;
@@ -43,6 +48,8 @@ final class BetterScoreBoardConfig {
         this.offsetTop = offsetTop;
         this.dividerVisible = dividerVisible;
         this.logoVisible = logoVisible;
+        this.placeholderCacheMillis = placeholderCacheMillis;
+        this.adaptiveRefresh = adaptiveRefresh;
     }
 
     String title() {
@@ -97,6 +104,14 @@ final class BetterScoreBoardConfig {
         return logoVisible;
     }
 
+    Map<String, Long> placeholderCacheMillis() {
+        return placeholderCacheMillis;
+    }
+
+    AdaptiveRefresh adaptiveRefresh() {
+        return adaptiveRefresh;
+    }
+
     PageConfig page(int index) {
         if (pages == null || pages.isEmpty()) {
             return null;
@@ -132,6 +147,10 @@ final class BetterScoreBoardConfig {
         boolean logoVisible = defaults.logoVisible;
         boolean rotationEnabled = defaults.rotationEnabled;
         int activePage = defaults.activePage;
+        Map<String, Long> placeholderCache = new LinkedHashMap<>(defaults.placeholderCacheMillis);
+        boolean adaptiveEnabled = defaults.adaptiveRefresh.enabled();
+        long adaptiveMin = defaults.adaptiveRefresh.minMillis();
+        long adaptiveMax = defaults.adaptiveRefresh.maxMillis();
 
         @SuppressWarnings("unchecked")
         List<String>[] pageLines = new List[MAX_PAGES];
@@ -153,6 +172,7 @@ final class BetterScoreBoardConfig {
         boolean inLines = false;
         int inPageLines = -1;
         int inPageWorlds = -1;
+        boolean inPlaceholderCache = false;
         try (BufferedReader reader = Files.newBufferedReader(configPath, StandardCharsets.UTF_8)) {
             String raw;
             while ((raw = reader.readLine()) != null) {
@@ -160,6 +180,26 @@ final class BetterScoreBoardConfig {
                 if (line.isEmpty() || line.startsWith("#")) {
                     continue;
                 }
+                if (inPlaceholderCache && Character.isWhitespace(raw.charAt(0)) && line.indexOf(':') > 0) {
+                    int sep = line.indexOf(':');
+                    String name = PlaceholderRegistry.normalize(trimQuotes(line.substring(0, sep).trim()));
+                    try {
+                        double seconds = Double.parseDouble(trimQuotes(line.substring(sep + 1).trim()));
+                        if (name != null && seconds > 0) {
+                            placeholderCache.put(name, (long) (seconds * 1000));
+                        }
+                    } catch (NumberFormatException ignored) {
+                    }
+                    continue;
+                }
+                inPlaceholderCache = false;
+                if (line.startsWith("placeholderCacheSeconds:")) {
+                    inPlaceholderCache = true;
+                    inLines = false;
+                    inPageLines = -1;
+                    inPageWorlds = -1;
+                    continue;
+                }
                 if (line.startsWith("lines:")) {
                     inLines = true;
                     inPageLines = -1;
@@ -231,6 +271,23 @@ final class BetterScoreBoardConfig {
                         } catch (NumberFormatException ignored) {
                         }
                     }
+                    case "adaptiveRefresh" -> {
+                        if (!value.isEmpty()) {
+                            adaptiveEnabled = Boolean.parseBoolean(value);
+                        }
+                    }
+                    case "adaptiveRefreshMinSeconds" -> {
+                        try {
+                            adaptiveMin = Math.max(MIN_REFRESH_MS, (long) (Double.parseDouble(value) * 1000));
+                        } catch (NumberFormatException ignored) {
+                        }
+                    }
+                    case "adaptiveRefreshMaxSeconds" -> {
+                        try {
+                            adaptiveMax = Math.max(MIN_REFRESH_MS, (long) (Double.parseDouble(value) * 1000));
+                        } catch (NumberFormatException ignored) {
+                        }
+                    }
                     case "rotationEnabled" -> {
                         if (!value.isEmpty()) {
                             rotationEnabled = Boolean.parseBoolean(value);
@@ -350,7 +407,9 @@ final class BetterScoreBoardConfig {
             offsetRight,
             offsetTop,
             dividerVisible,
-            logoVisible
+            logoVisible,
+            Collections.unmodifiableMap(placeholderCache),
+            new AdaptiveRefresh(adaptiveEnabled, adaptiveMin, Math.max(adaptiveMin, adaptiveMax))
         );
     }
 
@@ -386,7 +445,9 @@ final class BetterScoreBoardConfig {
             24,
             140,
             true,
-            true
+            true,
+            Collections.emptyMap(),
+            new AdaptiveRefresh(false, MIN_REFRESH_MS, 10_000L)
         );
     }
 
@@ -415,6 +476,10 @@ final class BetterScoreBoardConfig {
         lines.add("dividerVisible: " + defaults.dividerVisible);
         lines.add("# Show the logo image above the title");
         lines.add("logoVisible: " + defaults.logoVisible);
+        lines.add("# Back off refreshes for players whose board has not changed, between the min and max interval (seconds)");
+        lines.add("adaptiveRefresh: " + defaults.adaptiveRefresh.enabled());
+        lines.add("adaptiveRefreshMinSeconds: " + (defaults.adaptiveRefresh.minMillis() / 1000.0));
+        lines.add("adaptiveRefreshMaxSeconds: " + (defaults.adaptiveRefresh.maxMillis() / 1000.0));
         lines.add("# Rotation of multiple pages");
         lines.add("rotationEnabled: " + defaults.rotationEnabled);
         lines.add("activePage: " + defaults.activePage);
@@ -439,6 +504,9 @@ final class BetterScoreBoardConfig {
         lines.add("# {factionpowermax} -> HyFactions faction max power (optional)");
         lines.add("# {claim} -> HyFactions faction claims used (optional)");
         lines.add("# {maxclaim} -> HyFactions faction max claims (optional)");
+        lines.add("# Cache a placeholder per player for the given seconds instead of recomputing it every refresh, e.g.");
+        lines.add("#   totalplaytime: 60");
+        lines.add("placeholderCacheSeconds:");
         lines.add("# Page 1");
         lines.add("page1Title: \"" + defaults.pages.get(0).title().replace("\"", "\\\"") + "\"");
         lines.add("page1DurationSeconds: " + (defaults.pages.get(0).durationMillis() / 1000.0));
@@ -478,7 +546,9 @@ final class BetterScoreBoardConfig {
                 offsetRight,
             offsetTop,
             dividerVisible,
-            logoVisible
+            logoVisible,
+            placeholderCacheMillis,
+            adaptiveRefresh
         );
     }
 
@@ -500,7 +570,9 @@ final class BetterScoreBoardConfig {
                 offsetRight,
             offsetTop,
             dividerVisible,
-            logoVisible
+            logoVisible,
+            placeholderCacheMillis,
+            adaptiveRefresh
         );
     }
 
@@ -518,7 +590,9 @@ final class BetterScoreBoardConfig {
                 Math.max(0, newOffsetRight),
             Math.max(0, newOffsetTop),
             dividerVisible,
-            logoVisible
+            logoVisible,
+            placeholderCacheMillis,
+            adaptiveRefresh
         );
     }
 
@@ -536,7 +610,9 @@ final class BetterScoreBoardConfig {
                 offsetRight,
                 offsetTop,
                 visible,
-                logoVisible
+                logoVisible,
+                placeholderCacheMillis,
+                adaptiveRefresh
         );
     }
 
@@ -554,7 +630,9 @@ final class BetterScoreBoardConfig {
                 offsetRight,
                 offsetTop,
                 dividerVisible,
-                visible
+                visible,
+                placeholderCacheMillis,
+                adaptiveRefresh
         );
     }
 
@@ -578,7 +656,9 @@ final class BetterScoreBoardConfig {
                 offsetRight,
                 offsetTop,
             dividerVisible,
-            logoVisible
+            logoVisible,
+            placeholderCacheMillis,
+            adaptiveRefresh
         );
     }
 
@@ -596,11 +676,20 @@ final class BetterScoreBoardConfig {
         lines.add("offsetTop: " + cfg.offsetTop);
         lines.add("dividerVisible: " + cfg.dividerVisible);
         lines.add("logoVisible: " + cfg.logoVisible);
+        lines.add("# Back off refreshes for players whose board has not changed, between the min and max interval (seconds)");
+        lines.add("adaptiveRefresh: " + cfg.adaptiveRefresh.enabled());
+        lines.add("adaptiveRefreshMinSeconds: " + (cfg.adaptiveRefresh.minMillis() / 1000.0));
+        lines.add("adaptiveRefreshMaxSeconds: " + (cfg.adaptiveRefresh.maxMillis() / 1000.0));
         lines.add("# Rotation of multiple pages");
         lines.add("rotationEnabled: " + cfg.rotationEnabled);
         lines.add("activePage: " + cfg.activePage);
         lines.add("# Lines to render from top to bottom. Available placeholders:");
         lines.add("# {server}, {world}, {online}, {max_players}, {player}, {rank}, {playtime}, {totalplaytime}, {tps}, {money}, {balance}, {faction}, {faction_rank}, {faction_tag}, {power}, {powermax}, {factionpower}, {factionpowermax}, {claim}, {maxclaim}");
+        lines.add("# Cache a placeholder per player for the given seconds instead of recomputing it every refresh");
+        lines.add("placeholderCacheSeconds:");
+        for (Map.Entry<String, Long> entry : cfg.placeholderCacheMillis.entrySet()) {
+            lines.add("  " + entry.getKey() + ": " + (entry.getValue() / 1000.0));
+        }
         for (int i = 0; i < cfg.pages.size(); i++) {
             PageConfig page = cfg.pages.get(i);
             int pageNumber = i + 1;
@@ -710,6 +799,9 @@ final class BetterScoreBoardConfig {
         return normalized;
     }
 
+    // minMillis is the fastest a backed-off player returns to (never faster than its page); maxMillis caps the back-off.
+    record AdaptiveRefresh(boolean enabled, long minMillis, long maxMillis) {}
+
     static final class PageConfig {
         private final String title;
         private final List<String> lines;
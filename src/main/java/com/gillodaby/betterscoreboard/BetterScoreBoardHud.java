@@ -7,12 +7,17 @@ import com.hypixel.hytale.server.core.ui.Anchor;
 import com.hypixel.hytale.server.core.ui.builder.UICommandBuilder;
 import com.hypixel.hytale.server.core.ui.Value;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 final class BetterScoreBoardHud extends CustomUIHud {
 
-    static final int MAX_LINES = 12;
-    private static final int MAX_SEGMENTS = 25;
+    // Row and segment counts come from the generated UI document (see generateHudLayout in build.gradle).
+    static final int MAX_LINES = HudLayoutSpec.MAX_LINES;
+    static final int MAX_SEGMENTS = HudLayoutSpec.MAX_SEGMENTS;
     private static final String DEFAULT_TEXT_COLOR = "#f6f8ff";
     private static final int ROOT_WIDTH = 280;
     private static final int ROOT_TOP = 400;
@@ -24,12 +29,38 @@ final class BetterScoreBoardHud extends CustomUIHud {
     private static final int LOGO_HEIGHT = 64;
     private static final int TITLE_HEIGHT = 22;
     private static final int TITLE_TOP = 5;
-    private static final int LINES_HEIGHT = 180;
+    private static final int LINES_HEIGHT = HudLayoutSpec.LINES_HEIGHT;
     private static final int DIVIDER_HEIGHT = 4;
     private static final int DIVIDER_TOP = 6;
+    private static final int PROP_TEXT = 0;
+    private static final int PROP_COLOR = 1;
+    private static final int PROP_BOLD = 2;
+    private static final int PROP_VISIBLE = 3;
+    // Selectors are fixed by the UI document, so build them once instead of per refresh.
+    private static final String[] ROW_SELECTORS = buildRowSelectors();
+    private static final String[][][] SEGMENT_SELECTORS = buildSegmentSelectors();
+    // Header/root anchors only depend on the title, logo and divider flags, indexed by layoutKey.
+    private static final HeaderLayout[] LAYOUTS = buildLayouts();
+    private static final int PAYLOAD_CACHE_LIMIT = 1_024;
+    // Command lists keyed by (state the client had, populated segment counts, view to show), shared by every HUD making
+    // the same transition. Labels below populated were written for the view the client had; labels past it are blank but
+    // their flags depend on each client's history, so every property of such a label is re-sent when it is used again.
+    private static final Map<PayloadKey, HudPayload> PAYLOADS = new ConcurrentHashMap<>();
+    private static final Object DOCUMENT_DEFAULTS = new Object();
 
     private final BetterScoreBoardConfig config;
+    private final SentState sent = new SentState();
     private volatile ScoreboardView currentView;
+    private volatile boolean attached;
+    // Set by invalidate() from any thread; the mirror itself is only reset on the thread that writes the HUD.
+    private volatile boolean invalidated;
+    private int emitted;
+    // DOCUMENT_DEFAULTS, the last view written, or null when the client state is unknown.
+    private Object sentBase;
+    // Set after a cached payload was replayed: the mirror still needs to catch up with sentBase.
+    private boolean mirrorStale;
+    private final List<String> recordedSelectors = new ArrayList<>();
+    private final List<Object> recordedValues = new ArrayList<>();
 
     BetterScoreBoardHud(PlayerRef ref, BetterScoreBoardConfig config) {
         super(ref);
@@ -38,99 +69,246 @@ final class BetterScoreBoardHud extends CustomUIHud {
 
     @Override
     protected void build(UICommandBuilder builder) {
+        // A rebuild re-appends the document, so the client is back to the .ui defaults.
+        builder.append("Pages/GilloDaby_BetterScoreBoard.ui");
+        invalidated = false;
+        sent.resetToDocumentDefaults();
+        sentBase = DOCUMENT_DEFAULTS;
+        mirrorStale = false;
         writeHud(builder, currentView);
     }
 
     void refresh(Player player, PlayerRef ref, ScoreboardView view) {
         this.currentView = view;
+        if (invalidated) {
+            invalidated = false;
+            sent.reset();
+            sentBase = null;
+            mirrorStale = false;
+        }
+        if (attached && !layoutChanged(view)) {
+            // Already on screen: push only the changed properties instead of re-appending the document.
+            UICommandBuilder builder = new UICommandBuilder();
+            if (writeHud(builder, view) > 0) {
+                update(false, builder);
+            }
+            return;
+        }
         // Delegate to MultipleHUD so only our HUD entry is rebuilt.
         MultipleHUD.getInstance().setCustomHud(player, ref, "BetterScoreBoard", this);
+        attached = true;
+    }
+
+    void detach() {
+        attached = false;
     }
 
     void hideHud() {
         UICommandBuilder builder = new UICommandBuilder();
         builder.append("Pages/GilloDaby_BetterScoreBoard.ui");
         builder.set("#BoardRoot.Visible", false);
+        sent.resetToDocumentDefaults();
+        sent.rootVisible = Boolean.FALSE;
+        sentBase = null;
+        mirrorStale = false;
+        attached = false;
         update(true, builder);
     }
 
-    private void writeHud(UICommandBuilder builder, ScoreboardView view) {
-        builder.append("Pages/GilloDaby_BetterScoreBoard.ui");
+    // Forget what the client shows so the next refresh rebuilds the whole HUD. Safe to call off the world thread.
+    void invalidate() {
+        attached = false;
+        invalidated = true;
+    }
+
+    private boolean layoutChanged(ScoreboardView view) {
+        return view != null && sent.layoutKey != layoutKey(view);
+    }
 
+    private int writeHud(UICommandBuilder builder, ScoreboardView view) {
+        int maxVisible = Math.min(MAX_LINES, config.maxLines());
+        PayloadKey key = sentBase != null && view != null ? new PayloadKey(sentBase, view, maxVisible, sent.populated.clone()) : null;
+        HudPayload cached = key != null ? PAYLOADS.get(key) : null;
+        if (cached != null) {
+            cached.replay(builder);
+            // populated is kept exact across replays; text, colors and flags catch up lazily below.
+            System.arraycopy(cached.populatedAfter, 0, sent.populated, 0, MAX_LINES);
+            sentBase = view;
+            mirrorStale = true;
+            sent.layoutKey = layoutKey(view);
+            return cached.size();
+        }
+        if (mirrorStale) {
+            // Bring the mirror up to date with the view the client is showing, without emitting anything. Slots past
+            // populated are blank on the client, and hidden rows stay unknown, so the rebuilt mirror never claims a
+            // blank the client does not have.
+            ScoreboardView shown = (ScoreboardView) sentBase;
+            int[] populated = sent.populated.clone();
+            sent.reset();
+            diffHud(null, shown, maxVisible);
+            System.arraycopy(populated, 0, sent.populated, 0, MAX_LINES);
+            mirrorStale = false;
+        }
+        recordedSelectors.clear();
+        recordedValues.clear();
+        int count = diffHud(builder, view, maxVisible);
+        if (key != null) {
+            if (PAYLOADS.size() >= PAYLOAD_CACHE_LIMIT) {
+                PAYLOADS.clear();
+            }
+            PAYLOADS.putIfAbsent(key, new HudPayload(recordedSelectors.toArray(new String[0]), recordedValues.toArray(), sent.populated.clone()));
+        }
+        sentBase = view;
+        return count;
+    }
+
+    // Writes the properties that differ from the mirror; a null builder only updates the mirror.
+    private int diffHud(UICommandBuilder builder, ScoreboardView view, int maxVisible) {
+        emitted = 0;
         if (view == null) {
-            builder.set("#BoardRoot.Visible", false);
-            return;
+            sent.rootVisible = setIfChanged(builder, "#BoardRoot.Visible", sent.rootVisible, false);
+            return emitted;
         }
 
-        builder.set("#BoardRoot.Visible", true);
-        builder.set("#Divider.Visible", view.dividerVisible());
-        builder.set("#BoardTitle.Text", view.title());
-        boolean showTitle = view.title() != null && !view.title().trim().isEmpty();
+        sent.rootVisible = setIfChanged(builder, "#BoardRoot.Visible", sent.rootVisible, true);
+        sent.dividerVisible = setIfChanged(builder, "#Divider.Visible", sent.dividerVisible, view.dividerVisible());
+        String title = view.title() != null ? view.title() : "";
+        sent.titleText = setIfChanged(builder, "#BoardTitle.Text", sent.titleText, title);
+        boolean showTitle = !title.trim().isEmpty();
         boolean showLogo = view.logoVisible();
-        builder.set("#BoardTitle.Visible", showTitle);
-        builder.set("#BoardLogo.Visible", showLogo);
-        builder.set("#Header.Visible", showTitle || showLogo);
-        updateLayoutAnchors(builder, showTitle, showLogo, view.dividerVisible());
-        // Logo texture is static in UI; only visibility is toggled at runtime.
-        if (view.titleColor() != null && !view.titleColor().isEmpty()) {
-            builder.set("#BoardTitle.Style.TextColor", view.titleColor());
-        } else {
-            builder.set("#BoardTitle.Style.TextColor", "#f6f8ff");
+        sent.titleVisible = setIfChanged(builder, "#BoardTitle.Visible", sent.titleVisible, showTitle);
+        sent.logoVisible = setIfChanged(builder, "#BoardLogo.Visible", sent.logoVisible, showLogo);
+        sent.headerVisible = setIfChanged(builder, "#Header.Visible", sent.headerVisible, showTitle || showLogo);
+        int layoutKey = layoutKey(showTitle, showLogo, view.dividerVisible());
+        if (sent.layoutKey != layoutKey) {
+            HeaderLayout layout = LAYOUTS[layoutKey];
+            emit(builder, "#Header.Anchor", layout.headerAnchor());
+            emit(builder, "#BoardRoot.Anchor", layout.rootAnchor());
+            sent.layoutKey = layoutKey;
         }
+        // Logo texture is static in UI; only visibility is toggled at runtime.
+        String titleColor = view.titleColor() != null && !view.titleColor().isEmpty() ? view.titleColor() : DEFAULT_TEXT_COLOR;
+        sent.titleColor = setIfChanged(builder, "#BoardTitle.Style.TextColor", sent.titleColor, titleColor);
 
-        int maxVisible = Math.min(MAX_LINES, config.maxLines());
         for (int i = 0; i < MAX_LINES; i++) {
-            String baseId = "#Line" + (i + 1);
-            String rowSelector = baseId + "Row.Visible";
-
             if (view.lines() != null && i < maxVisible && i < view.lines().size()) {
                 ScoreboardView.LineRender render = view.lines().get(i);
-                builder.set(rowSelector, true);
+                sent.rowVisible[i] = setIfChanged(builder, ROW_SELECTORS[i], sent.rowVisible[i], true);
                 List<ScoreboardView.LineSegment> segments = render.segments();
-                for (int segmentIndex = 0; segmentIndex < MAX_SEGMENTS; segmentIndex++) {
-                    String segmentId = segmentIndex == 0 ? baseId : baseId + "Segment" + (segmentIndex + 1);
-                    String textSelector = segmentId + ".Text";
-                    String colorSelector = segmentId + ".Style.TextColor";
-                    String boldSelector = segmentId + ".Style.RenderBold";
-                    String visibleSelector = segmentId + ".Visible";
-                    if (segmentIndex < segments.size()) {
+                int used = Math.min(segments.size(), MAX_SEGMENTS);
+                // Slots past both the old and new segment count are already blank on the client.
+                int limit = Math.max(used, sent.populated[i]);
+                for (int segmentIndex = 0; segmentIndex < limit; segmentIndex++) {
+                    if (segmentIndex < used) {
+                        if (segmentIndex >= sent.populated[i]) {
+                            sent.forget(i, segmentIndex);
+                        }
                         ScoreboardView.LineSegment segment = segments.get(segmentIndex);
                         String color = segment.color();
                         if (color == null || color.isEmpty()) {
                             color = DEFAULT_TEXT_COLOR;
                         }
-                        builder.set(textSelector, segment.text());
-                        builder.set(colorSelector, color);
-                        builder.set(boldSelector, segment.bold());
-                        builder.set(visibleSelector, !segment.text().isEmpty());
+                        writeSegment(builder, i, segmentIndex, segment.text(), color, segment.bold(), !segment.text().isEmpty());
                     } else {
-                        builder.set(textSelector, "");
-                        builder.set(colorSelector, DEFAULT_TEXT_COLOR);
-                        builder.set(boldSelector, false);
-                        builder.set(visibleSelector, false);
+                        writeSegment(builder, i, segmentIndex, "", DEFAULT_TEXT_COLOR, false, false);
                     }
                 }
+                sent.populated[i] = used;
             } else {
-                builder.set(rowSelector, false);
-                for (int segmentIndex = 0; segmentIndex < MAX_SEGMENTS; segmentIndex++) {
-                    String segmentId = segmentIndex == 0 ? baseId : baseId + "Segment" + (segmentIndex + 1);
-                    builder.set(segmentId + ".Text", "");
-                    builder.set(segmentId + ".Style.TextColor", DEFAULT_TEXT_COLOR);
-                    builder.set(segmentId + ".Style.RenderBold", false);
-                    builder.set(segmentId + ".Visible", false);
+                sent.rowVisible[i] = setIfChanged(builder, ROW_SELECTORS[i], sent.rowVisible[i], false);
+                // Blank the hidden row too, so no stale labels outlive the view that put them there.
+                for (int segmentIndex = 0; segmentIndex < sent.populated[i]; segmentIndex++) {
+                    writeSegment(builder, i, segmentIndex, "", DEFAULT_TEXT_COLOR, false, false);
                 }
+                sent.populated[i] = 0;
             }
         }
+        return emitted;
+    }
+
+    private void writeSegment(UICommandBuilder builder, int line, int segment, String text, String color, boolean bold, boolean visible) {
+        String[] selectors = SEGMENT_SELECTORS[line][segment];
+        sent.text[line][segment] = setIfChanged(builder, selectors[PROP_TEXT], sent.text[line][segment], text);
+        sent.color[line][segment] = setIfChanged(builder, selectors[PROP_COLOR], sent.color[line][segment], color);
+        sent.bold[line][segment] = setIfChanged(builder, selectors[PROP_BOLD], sent.bold[line][segment], bold);
+        sent.visible[line][segment] = setIfChanged(builder, selectors[PROP_VISIBLE], sent.visible[line][segment], visible);
+    }
+
+    private String setIfChanged(UICommandBuilder builder, String selector, String previous, String value) {
+        if (!value.equals(previous)) {
+            emit(builder, selector, value);
+        }
+        return value;
+    }
+
+    private Boolean setIfChanged(UICommandBuilder builder, String selector, Boolean previous, boolean value) {
+        if (previous == null || previous != value) {
+            emit(builder, selector, Boolean.valueOf(value));
+        }
+        return value;
     }
 
-    private void updateLayoutAnchors(UICommandBuilder builder, boolean showTitle, boolean showLogo, boolean showDivider) {
-        int headerHeight = calculateHeaderHeight(showTitle, showLogo);
-        int rootHeight = calculateRootHeight(headerHeight, showDivider);
-        builder.setObject("#Header.Anchor", buildAnchor(HEADER_WIDTH, headerHeight, null, null));
-        builder.setObject("#BoardRoot.Anchor", buildAnchor(ROOT_WIDTH, rootHeight, ROOT_RIGHT, ROOT_TOP));
+    private void emit(UICommandBuilder builder, String selector, Object value) {
+        emitted++;
+        if (builder == null) {
+            return;
+        }
+        HudPayload.apply(builder, selector, value);
+        recordedSelectors.add(selector);
+        recordedValues.add(value);
     }
 
-    private int calculateHeaderHeight(boolean showTitle, boolean showLogo) {
+    private static String[] buildRowSelectors() {
+        String[] selectors = new String[MAX_LINES];
+        for (int i = 0; i < MAX_LINES; i++) {
+            selectors[i] = "#Line" + (i + 1) + "Row.Visible";
+        }
+        return selectors;
+    }
+
+    private static String[][][] buildSegmentSelectors() {
+        String[][][] selectors = new String[MAX_LINES][MAX_SEGMENTS][];
+        for (int i = 0; i < MAX_LINES; i++) {
+            String baseId = "#Line" + (i + 1);
+            for (int segmentIndex = 0; segmentIndex < MAX_SEGMENTS; segmentIndex++) {
+                String segmentId = segmentIndex == 0 ? baseId : baseId + "Segment" + (segmentIndex + 1);
+                String[] props = new String[4];
+                props[PROP_TEXT] = segmentId + ".Text";
+                props[PROP_COLOR] = segmentId + ".Style.TextColor";
+                props[PROP_BOLD] = segmentId + ".Style.RenderBold";
+                props[PROP_VISIBLE] = segmentId + ".Visible";
+                selectors[i][segmentIndex] = props;
+            }
+        }
+        return selectors;
+    }
+
+    private static int layoutKey(ScoreboardView view) {
+        boolean showTitle = view.title() != null && !view.title().trim().isEmpty();
+        return layoutKey(showTitle, view.logoVisible(), view.dividerVisible());
+    }
+
+    private static int layoutKey(boolean showTitle, boolean showLogo, boolean showDivider) {
+        return (showTitle ? 1 : 0) | (showLogo ? 2 : 0) | (showDivider ? 4 : 0);
+    }
+
+    private static HeaderLayout[] buildLayouts() {
+        HeaderLayout[] layouts = new HeaderLayout[8];
+        for (int key = 0; key < layouts.length; key++) {
+            boolean showTitle = (key & 1) != 0;
+            boolean showLogo = (key & 2) != 0;
+            boolean showDivider = (key & 4) != 0;
+            int headerHeight = calculateHeaderHeight(showTitle, showLogo);
+            int rootHeight = calculateRootHeight(headerHeight, showDivider);
+            layouts[key] = new HeaderLayout(
+                buildAnchor(HEADER_WIDTH, headerHeight, null, null),
+                buildAnchor(ROOT_WIDTH, rootHeight, ROOT_RIGHT, ROOT_TOP)
+            );
+        }
+        return layouts;
+    }
+
+    private static int calculateHeaderHeight(boolean showTitle, boolean showLogo) {
         int headerHeight = 0;
         if (showLogo) {
             headerHeight += LOGO_HEIGHT;
@@ -144,7 +322,7 @@ final class BetterScoreBoardHud extends CustomUIHud {
         return headerHeight;
     }
 
-    private int calculateRootHeight(int headerHeight, boolean showDivider) {
+    private static int calculateRootHeight(int headerHeight, boolean showDivider) {
         int rootHeight = ROOT_PADDING_TOP + ROOT_PADDING_BOTTOM + LINES_HEIGHT;
         if (showDivider) {
             rootHeight += DIVIDER_HEIGHT + DIVIDER_TOP;
@@ -153,7 +331,7 @@ final class BetterScoreBoardHud extends CustomUIHud {
         return rootHeight;
     }
 
-    private Anchor buildAnchor(Integer width, Integer height, Integer right, Integer top) {
+    private static Anchor buildAnchor(Integer width, Integer height, Integer right, Integer top) {
         Anchor anchor = new Anchor();
         if (width != null) {
             anchor.setWidth(Value.of(width));
@@ -169,4 +347,132 @@ final class BetterScoreBoardHud extends CustomUIHud {
         }
         return anchor;
     }
+
+    private record HeaderLayout(Anchor headerAnchor, Anchor rootAnchor) {}
+
+    // Views are interned by the service, so identity is enough to tell transitions apart.
+    private static final class PayloadKey {
+        private final Object from;
+        private final ScoreboardView to;
+        private final int maxVisible;
+        private final int[] populated;
+
+        PayloadKey(Object from, ScoreboardView to, int maxVisible, int[] populated) {
+            this.from = from;
+            this.to = to;
+            this.maxVisible = maxVisible;
+            this.populated = populated;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof PayloadKey key)) {
+                return false;
+            }
+            return from == key.from && to == key.to && maxVisible == key.maxVisible && Arrays.equals(populated, key.populated);
+        }
+
+        @Override
+        public int hashCode() {
+            return ((31 * System.identityHashCode(from) + System.identityHashCode(to)) * 31 + maxVisible) * 31 + Arrays.hashCode(populated);
+        }
+    }
+
+    private static final class HudPayload {
+        private final String[] selectors;
+        private final Object[] values;
+        // SentState.populated after the transition; it depends only on the key, so it can be replayed too.
+        final int[] populatedAfter;
+
+        HudPayload(String[] selectors, Object[] values, int[] populatedAfter) {
+            this.selectors = selectors;
+            this.values = values;
+            this.populatedAfter = populatedAfter;
+        }
+
+        int size() {
+            return selectors.length;
+        }
+
+        void replay(UICommandBuilder builder) {
+            for (int i = 0; i < selectors.length; i++) {
+                apply(builder, selectors[i], values[i]);
+            }
+        }
+
+        static void apply(UICommandBuilder builder, String selector, Object value) {
+            if (value instanceof String text) {
+                builder.set(selector, text);
+            } else if (value instanceof Boolean flag) {
+                builder.set(selector, flag.booleanValue());
+            } else {
+                builder.setObject(selector, value);
+            }
+        }
+    }
+
+    // What the client currently displays; null means unknown and is always re-sent.
+    private static final class SentState {
+        final String[][] text = new String[MAX_LINES][MAX_SEGMENTS];
+        final String[][] color = new String[MAX_LINES][MAX_SEGMENTS];
+        final Boolean[][] bold = new Boolean[MAX_LINES][MAX_SEGMENTS];
+        final Boolean[][] visible = new Boolean[MAX_LINES][MAX_SEGMENTS];
+        final Boolean[] rowVisible = new Boolean[MAX_LINES];
+        // Per row, how many leading segment labels may hold content; the rest are blank, with flags that are not tracked.
+        final int[] populated = new int[MAX_LINES];
+        Boolean rootVisible;
+        Boolean dividerVisible;
+        Boolean titleVisible;
+        Boolean logoVisible;
+        Boolean headerVisible;
+        String titleText;
+        String titleColor;
+        int layoutKey = -1;
+
+        void forget(int line, int segment) {
+            text[line][segment] = null;
+            color[line][segment] = null;
+            bold[line][segment] = null;
+            visible[line][segment] = null;
+        }
+
+        void reset() {
+            for (int i = 0; i < MAX_LINES; i++) {
+                Arrays.fill(text[i], null);
+                Arrays.fill(color[i], null);
+                Arrays.fill(bold[i], null);
+                Arrays.fill(visible[i], null);
+            }
+            Arrays.fill(rowVisible, null);
+            Arrays.fill(populated, MAX_SEGMENTS);
+            rootVisible = null;
+            dividerVisible = null;
+            titleVisible = null;
+            logoVisible = null;
+            headerVisible = null;
+            titleText = null;
+            titleColor = null;
+            layoutKey = -1;
+        }
+
+        // Mirrors the initial values declared in GilloDaby_BetterScoreBoard.ui.
+        void resetToDocumentDefaults() {
+            for (int i = 0; i < MAX_LINES; i++) {
+                Arrays.fill(text[i], "");
+                Arrays.fill(color[i], DEFAULT_TEXT_COLOR);
+                Arrays.fill(bold[i], Boolean.FALSE);
+                Arrays.fill(visible[i], Boolean.TRUE);
+            }
+            Arrays.fill(rowVisible, Boolean.FALSE);
+            Arrays.fill(populated, 0);
+            rootVisible = Boolean.TRUE;
+            dividerVisible = Boolean.TRUE;
+            titleVisible = Boolean.TRUE;
+            logoVisible = Boolean.TRUE;
+            headerVisible = Boolean.TRUE;
+            titleText = "Better ScoreBoard";
+            titleColor = "#f2f4f8";
+            layoutKey = -1;
+        }
+    }
 }
@@ -10,10 +10,22 @@ import com.hypixel.hytale.server.core.plugin.JavaPluginInit;
 
 public class BetterScoreBoardPlugin extends JavaPlugin {
 
+    private static volatile BetterScoreBoardPlugin instance;
+    // Created up front so other plugins can register placeholders before or after this plugin starts.
+    private final PlaceholderRegistry placeholders = new PlaceholderRegistry();
     private BetterScoreBoardService service;
 
     public BetterScoreBoardPlugin(JavaPluginInit init) {
         super(init);
+        instance = this;
+    }
+
+    public static BetterScoreBoardPlugin get() {
+        return instance;
+    }
+
+    public PlaceholderRegistry placeholders() {
+        return placeholders;
     }
 
     @Override
@@ -23,7 +35,7 @@ public class BetterScoreBoardPlugin extends JavaPlugin {
     @Override
     public void start() {
         BetterScoreBoardConfig config = BetterScoreBoardConfig.load(getDataDirectory());
-        service = new BetterScoreBoardService(config);
+        service = new BetterScoreBoardService(config, placeholders);
 
         // Command registration
         CommandManager.get().register(new ScoreboardCommand(service, config));
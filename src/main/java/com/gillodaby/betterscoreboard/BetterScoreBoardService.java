@@ -18,11 +18,13 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
@@ -33,16 +35,26 @@ import java.util.function.Supplier;
 
 final class BetterScoreBoardService {
 
-    private static final String PLACEHOLDERS = "{server}, {world}, {online}, {max_players}, {player}, {rank}, {playtime}, {totalplaytime}, {tps}, {balance}, {pos_x}, {pos_y}, {pos_z}, {gamemode}, {world_tick}, {chunk_x}, {chunk_z}, {uuid}, {faction}, {faction_rank}, {faction_tag}, {power}, {powermax}, {factionpower}, {factionpowermax}, {claim}, {maxclaim}";
     private static final int DEFAULT_OFFSET_RIGHT = 1;
     private static final int DEFAULT_OFFSET_TOP = 300;
     private static final String DEFAULT_TEXT_COLOR = "#f6f8ff";
     private static final long PLAYTIME_SAVE_INTERVAL_MS = 5 * 60_000L;
-    private static final long DYNAMIC_DATA_REFRESH_MS = 3_000L;
+    // The data refresher only re-resolves async placeholders whose TTL expired, so it can tick often.
+    private static final long DYNAMIC_DATA_REFRESH_MS = 1_000L;
+    private static final long EXTERNAL_DATA_TTL_MS = 3_000L;
+    private static final int SHARED_RENDER_CACHE_LIMIT = 4_096;
+    // Players are spread over wheel ticks within the refresh interval instead of all refreshing at once.
+    private static final long REFRESH_WHEEL_TICK_MS = 50L;
+    private static final int REFRESH_WHEEL_SLOTS = 256;
+    // Roughly 200 ms of wheel ticks still queued on a world means it is behind; its new batches are dropped until it catches up.
+    private static final int MAX_PENDING_WORLD_BATCHES = 4;
+    // Queued work a world has not run for this long is presumed lost (world unloaded, task dropped) and stops blocking refreshes.
+    private static final long STALE_QUEUED_WORK_MS = 5_000L;
     private final Map<UUID, TrackedHud> huds = new ConcurrentHashMap<>();
     private final ScheduledExecutorService refresher;
     private final ScheduledExecutorService dataRefresher;
     private java.util.concurrent.ScheduledFuture<?> refreshTask;
+    private final RefreshWheel refreshWheel = new RefreshWheel(REFRESH_WHEEL_SLOTS);
     private java.util.concurrent.ScheduledFuture<?> playtimeSaveTask;
     private java.util.concurrent.ScheduledFuture<?> dynamicDataTask;
     private BetterScoreBoardConfig config;
@@ -56,19 +68,33 @@ final class BetterScoreBoardService {
     private final EconomyBalanceSource economyBalanceSource;
     private final LuckPermsRankSource luckPermsRankSource;
     private final HyFactionsPlaceholderSource hyFactionsPlaceholderSource;
-
-    BetterScoreBoardService(BetterScoreBoardConfig config) {
+    private final PlaceholderRegistry placeholders;
+    // Cached values of TTL providers scoped to the whole server or to one world; player-scoped values live on TrackedHud.
+    private final PlaceholderValues sharedValues = new PlaceholderValues();
+    private final Map<String, PlaceholderValues> worldValues = new ConcurrentHashMap<>();
+    // Operator TTL overrides from placeholderCacheSeconds, resolved to providers whenever the registry or config changes.
+    private volatile Map<PlaceholderProvider, Long> memoTtls = Map.of();
+    // Cache keys already reported as unknown, so registry changes do not repeat the warning.
+    private final Set<String> unknownCacheKeys = ConcurrentHashMap.newKeySet();
+    private final Map<String, PlaceholderProvider> builtInPlaceholders = new java.util.LinkedHashMap<>();
+    private final Runnable registryListener = this::recompilePages;
+    private final java.util.concurrent.atomic.AtomicInteger sharedEpoch = new java.util.concurrent.atomic.AtomicInteger();
+    private volatile GlobalSnapshot globalSnapshot;
+    // World accessor used for {world_online}, looked up once; empty when the server API has none.
+    private volatile java.util.Optional<Method> worldPlayerCount;
+    // TPS clocks outlive snapshots; keyed by world name.
+    private final Map<String, WorldClock> worldClocks = new ConcurrentHashMap<>();
+    // Time spent rendering each world's batch on its world thread; keyed by world name.
+    private final Map<String, WorldRefreshStats> worldRefreshStats = new ConcurrentHashMap<>();
+    // Shared across players: identical line text or whole boards resolve to one immutable instance.
+    private final Interner<String, ScoreboardView.LineRender> sharedLineRenders = new Interner<>(SHARED_RENDER_CACHE_LIMIT);
+    private final Interner<ScoreboardView, ScoreboardView> sharedViews = new Interner<>(SHARED_RENDER_CACHE_LIMIT);
+
+    BetterScoreBoardService(BetterScoreBoardConfig config, PlaceholderRegistry placeholders) {
         this.config = config;
+        this.placeholders = placeholders;
         this.pages = new ArrayList<>();
-        for (BetterScoreBoardConfig.PageConfig pageConfig : config.pages()) {
-            this.pages.add(PageState.from(pageConfig));
-        }
-        while (this.pages.size() < BetterScoreBoardConfig.MAX_PAGES) {
-            this.pages.add(PageState.emptyPage(this.pages.size() + 1));
-        }
-        this.activePageIndex = clampPageIndex(config.activePage() - 1);
         this.rotationEnabled = config.rotationEnabled();
-        this.nextRotationAtMs = System.currentTimeMillis() + currentPage().durationMs;
         this.economyBalanceSource = new EconomyBalanceSource();
         this.luckPermsRankSource = new LuckPermsRankSource();
         this.hyFactionsPlaceholderSource = new HyFactionsPlaceholderSource();
@@ -100,6 +126,71 @@ final class BetterScoreBoardService {
         }
         this.serverName = resolvedName;
         this.configuredMaxPlayers = resolvedMaxPlayers;
+
+        registerBuiltInPlaceholders();
+        rebuildMemoTtls();
+        for (BetterScoreBoardConfig.PageConfig pageConfig : config.pages()) {
+            this.pages.add(PageState.from(pageConfig, placeholders));
+        }
+        while (this.pages.size() < BetterScoreBoardConfig.MAX_PAGES) {
+            this.pages.add(PageState.emptyPage(this.pages.size() + 1, placeholders));
+        }
+        this.activePageIndex = clampPageIndex(config.activePage() - 1);
+        this.nextRotationAtMs = System.currentTimeMillis() + currentPage().durationMs;
+        // Providers registered later by other plugins are picked up by recompiling every page.
+        placeholders.onChange(registryListener);
+    }
+
+    private void registerBuiltInPlaceholders() {
+        registerBuiltIn("server", BuiltInPlaceholder.fixed(PlaceholderProvider.Scope.STATIC, player -> serverName));
+        registerBuiltIn("world", new SnapshotPlaceholder(PlaceholderProvider.Scope.WORLD, false, (global, world, out) -> out.append(world.name)));
+        registerBuiltIn("online", new SnapshotPlaceholder(PlaceholderProvider.Scope.GLOBAL, false, (global, world, out) -> ScoreboardFormat.appendInt(out, global.online)));
+        registerBuiltIn("max_players", new SnapshotPlaceholder(PlaceholderProvider.Scope.GLOBAL, false, (global, world, out) -> ScoreboardFormat.appendInt(out, global.maxPlayers)));
+        registerBuiltIn("player", BuiltInPlaceholder.fixed(PlaceholderProvider.Scope.PLAYER, this::safePlayerName));
+        registerBuiltIn("rank", BuiltInPlaceholder.async(EXTERNAL_DATA_TTL_MS, "", player -> {
+            String rank = fetchRankNow(player);
+            return rank != null ? normalizeLuckPermsColors(rank) : "";
+        }));
+        registerBuiltIn("playtime", BuiltInPlaceholder.live(PlaceholderProvider.Scope.PLAYER, this::appendPlaytime));
+        registerBuiltIn("totalplaytime", BuiltInPlaceholder.live(PlaceholderProvider.Scope.PLAYER, this::appendTotalPlaytime));
+        registerBuiltIn("world_online", new SnapshotPlaceholder(PlaceholderProvider.Scope.WORLD, false, (global, world, out) -> ScoreboardFormat.appendInt(out, world.players)));
+        registerBuiltIn("tps", new SnapshotPlaceholder(PlaceholderProvider.Scope.WORLD, true, (global, world, out) -> ScoreboardFormat.appendTenths(out, world.tps)));
+        // {money} and {balance} share one provider so the balance is fetched and cached once.
+        PlaceholderProvider balance = BuiltInPlaceholder.async(EXTERNAL_DATA_TTL_MS, "0", this::fetchBalanceNow);
+        registerBuiltIn("balance", balance);
+        registerBuiltIn("money", balance);
+        registerBuiltIn("pos_x", new PositionPlaceholder(Axis.X, false));
+        registerBuiltIn("pos_y", new PositionPlaceholder(Axis.Y, false));
+        registerBuiltIn("pos_z", new PositionPlaceholder(Axis.Z, false));
+        registerBuiltIn("gamemode", BuiltInPlaceholder.live(PlaceholderProvider.Scope.PLAYER, (player, out) -> out.append(formatGameMode(player))));
+        registerBuiltIn("world_tick", new SnapshotPlaceholder(PlaceholderProvider.Scope.WORLD, true, (global, world, out) -> out.append(world.tick)));
+        registerBuiltIn("chunk_x", new PositionPlaceholder(Axis.X, true));
+        registerBuiltIn("chunk_z", new PositionPlaceholder(Axis.Z, true));
+        registerBuiltIn("uuid", BuiltInPlaceholder.fixed(PlaceholderProvider.Scope.PLAYER, this::formatUuid));
+        registerBuiltIn("faction", BuiltInPlaceholder.async(EXTERNAL_DATA_TTL_MS, "", player -> fetchFactionSnapshot(player).name()));
+        registerBuiltIn("faction_rank", BuiltInPlaceholder.async(EXTERNAL_DATA_TTL_MS, "", player -> fetchFactionSnapshot(player).rank()));
+        registerBuiltIn("faction_tag", BuiltInPlaceholder.async(EXTERNAL_DATA_TTL_MS, "", player -> fetchFactionSnapshot(player).tag()));
+        registerBuiltIn("power", BuiltInPlaceholder.async(EXTERNAL_DATA_TTL_MS, "0", player -> fetchFactionSnapshot(player).power()));
+        registerBuiltIn("powermax", BuiltInPlaceholder.async(EXTERNAL_DATA_TTL_MS, "0", player -> fetchFactionSnapshot(player).powerMax()));
+        registerBuiltIn("factionpower", BuiltInPlaceholder.async(EXTERNAL_DATA_TTL_MS, "0", player -> fetchFactionSnapshot(player).factionPower()));
+        registerBuiltIn("factionpowermax", BuiltInPlaceholder.async(EXTERNAL_DATA_TTL_MS, "0", player -> fetchFactionSnapshot(player).factionPowerMax()));
+        registerBuiltIn("claim", BuiltInPlaceholder.async(EXTERNAL_DATA_TTL_MS, "0", player -> fetchFactionSnapshot(player).claim()));
+        registerBuiltIn("maxclaim", BuiltInPlaceholder.async(EXTERNAL_DATA_TTL_MS, "0", player -> fetchFactionSnapshot(player).maxClaim()));
+    }
+
+    // Built-ins capture this service, so they are remembered and taken out of the plugin-wide registry on stop().
+    private void registerBuiltIn(String name, PlaceholderProvider provider) {
+        if (placeholders.registerDefault(name, provider)) {
+            builtInPlaceholders.put(name, provider);
+        }
+    }
+
+    private void recompilePages() {
+        rebuildMemoTtls();
+        for (PageState page : pages) {
+            page.compile();
+        }
+        refreshAll();
     }
 
     void start() {
@@ -110,10 +201,16 @@ final class BetterScoreBoardService {
     }
 
     void stop() {
+        placeholders.removeListener(registryListener);
+        for (Map.Entry<String, PlaceholderProvider> entry : builtInPlaceholders.entrySet()) {
+            placeholders.unregister(entry.getKey(), entry.getValue());
+        }
+        builtInPlaceholders.clear();
         for (TrackedHud tracked : huds.values()) {
             if (tracked != null) {
                 if (tracked.player != null && tracked.ref != null) {
                     MultipleHUD.getInstance().hideCustomHud(tracked.player, tracked.ref, "BetterScoreBoard");
+                    tracked.hud.detach();
                 }
                 if (tracked.ref != null && tracked.ref.getUuid() != null) {
                     playtimeTracker.playerStopped(tracked.ref.getUuid());
@@ -153,7 +250,15 @@ final class BetterScoreBoardService {
         }
         playtimeTracker.playerStarted(id);
 
-        if (huds.containsKey(id)) {
+        TrackedHud existing = huds.get(id);
+        if (existing != null) {
+            // Re-arm: the client may have dropped the HUD, so resend everything.
+            existing.lastView = null;
+            existing.hud.invalidate();
+            // The player may have changed world, and with it page and refresh interval. A refresh still queued on the old
+            // world keeps its marker: it either runs or goes stale, so two refreshes never write the HUD at once.
+            existing.unchangedRefreshes.set(0);
+            stageRefresh(id, existing);
             refresher.execute(() -> refreshSingle(id));
             return;
         }
@@ -187,8 +292,10 @@ final class BetterScoreBoardService {
         UUID id = ref.getUuid();
         playtimeTracker.playerStopped(id);
         TrackedHud tracked = huds.remove(id);
+        refreshWheel.remove(id);
         if (tracked != null) {
             MultipleHUD.getInstance().hideCustomHud(tracked.player, ref, "BetterScoreBoard");
+            tracked.hud.detach();
             System.out.println("[BetterScoreBoard] Removed HUD for " + safePlayerName(tracked.player));
         }
     }
@@ -206,8 +313,10 @@ final class BetterScoreBoardService {
         }
         UUID id = player.getPlayerRef().getUuid();
         TrackedHud tracked = huds.remove(id);
+        refreshWheel.remove(id);
         if (tracked != null) {
             MultipleHUD.getInstance().hideCustomHud(player, tracked.ref, "BetterScoreBoard");
+            tracked.hud.detach();
             System.out.println("[BetterScoreBoard] HUD hidden for " + safePlayerName(player));
         }
     }
@@ -224,10 +333,10 @@ final class BetterScoreBoardService {
 
         BetterScoreBoardHud hud = new BetterScoreBoardHud(ref, config);
         TrackedHud tracked = new TrackedHud(player, ref, hud);
-        ScoreboardView view = buildView(player, tracked, huds.size() + 1);
+        ScoreboardView view = buildView(player, tracked, captureGlobalSnapshot(huds.size() + 1));
         hud.refresh(player, ref, view);
-        MultipleHUD.getInstance().setCustomHud(player, ref, "BetterScoreBoard", hud);
         huds.put(id, tracked);
+        stageRefresh(id, tracked);
         triggerDynamicDataRefresh(tracked);
         refreshSingle(id);
         // Re-arm a few delayed refreshes after join to ensure the HUD stays visible
@@ -240,114 +349,289 @@ final class BetterScoreBoardService {
 
     private void refreshAll() {
         maybeRotatePages();
-        for (Map.Entry<UUID, TrackedHud> entry : huds.entrySet()) {
-            UUID id = entry.getKey();
-            TrackedHud tracked = entry.getValue();
+        snapBackAll(null);
+        refreshBatched(huds.values());
+    }
+
+    // One wheel tick: only the players due now are rebuilt; a page rotation rebuilds everyone at once.
+    private void advanceRefreshWheel() {
+        if (maybeRotatePages()) {
+            refreshBatched(huds.values());
+            return;
+        }
+        List<UUID> due = refreshWheel.advance();
+        if (due.isEmpty()) {
+            return;
+        }
+        List<TrackedHud> members = new ArrayList<>(due.size());
+        for (UUID id : due) {
+            TrackedHud tracked = huds.get(id);
             if (tracked == null) {
-                huds.remove(id);
                 continue;
             }
+            members.add(tracked);
+            long interval = nextIntervalTicks(tracked);
+            if (interval > 0) {
+                refreshWheel.schedule(id, interval);
+            }
+        }
+        refreshBatched(members);
+    }
+
+    // The refresh interval of the page this player actually sees, so pages shown in different worlds keep their own rates.
+    // 0 means the page does not refresh on its own.
+    private long baseIntervalTicks(TrackedHud tracked) {
+        PageState page = pageForPlayer(tracked.player);
+        if (page == null || page.refreshMs <= 0) {
+            return 0L;
+        }
+        return Math.max(1L, Math.max(BetterScoreBoardConfig.MIN_REFRESH_MS, page.refreshMs) / REFRESH_WHEEL_TICK_MS);
+    }
+
+    // Adaptive mode doubles a player's interval for each refresh that left the board unchanged. A board that keeps changing
+    // stays at the page rate; the configured min and max only bound the interval once it has backed off.
+    private long nextIntervalTicks(TrackedHud tracked) {
+        long base = baseIntervalTicks(tracked);
+        BetterScoreBoardConfig.AdaptiveRefresh adaptive = config.adaptiveRefresh();
+        int streak = Math.min(tracked.unchangedRefreshes.get(), 16);
+        if (base <= 0 || adaptive == null || !adaptive.enabled() || streak == 0) {
+            return base;
+        }
+        // Position is only sampled while rendering, so a backed-off board would not notice its player start moving.
+        PageState page = pageForPlayer(tracked.player);
+        if (page != null && page.manifest.positional()) {
+            return base;
+        }
+        long max = Math.max(base, adaptive.maxMillis() / REFRESH_WHEEL_TICK_MS);
+        long min = Math.min(max, adaptive.minMillis() / REFRESH_WHEEL_TICK_MS);
+        return Math.max(min, Math.min(max, base << streak));
+    }
+
+    // Something the board depends on changed: drop any back-off and bring the player's next refresh forward.
+    private void snapBack(TrackedHud tracked) {
+        // getAndSet keeps two racing snap-backs from staging the same refresh twice.
+        if (tracked == null || tracked.unchangedRefreshes.getAndSet(0) == 0) {
+            return;
+        }
+        if (tracked.ref != null && tracked.ref.getUuid() != null) {
+            stageRefresh(tracked.ref.getUuid(), tracked);
+        }
+    }
+
+    // A change every board in the world (or, for null, on the server) may show: nobody keeps a backed-off interval.
+    private void snapBackAll(World world) {
+        for (TrackedHud tracked : huds.values()) {
+            if (tracked.unchangedRefreshes.get() > 0 && (world == null || (tracked.player != null && tracked.player.getWorld() == world))) {
+                snapBack(tracked);
+            }
+        }
+    }
+
+    // (Re)places a player on the wheel at its stable phase; players on a page with no refresh interval are taken off.
+    private void stageRefresh(UUID id, TrackedHud tracked) {
+        long interval = nextIntervalTicks(tracked);
+        if (interval > 0) {
+            refreshWheel.scheduleStaggered(id, interval);
+        } else {
+            refreshWheel.remove(id);
+        }
+    }
+
+    private void refreshBatched(Collection<TrackedHud> targets) {
+        // One task per world per cycle rather than one per player.
+        Map<World, List<TrackedHud>> batches = new HashMap<>();
+        for (TrackedHud tracked : targets) {
             Player player = tracked.player;
             if (player == null || player.wasRemoved()) {
-                huds.remove(id);
+                huds.values().remove(tracked);
                 continue;
             }
-            PlayerRef ref = tracked.ref;
-            BetterScoreBoardHud hud = tracked.hud;
-            executeOnWorldThread(player, () -> {
-                try {
-                    ScoreboardView view = buildView(player, tracked, huds.size());
-                    if (view == null || view.equals(tracked.lastView)) {
-                        return;
-                    }
-                    tracked.lastView = view;
-                    hud.refresh(player, ref, view);
-                } catch (Throwable ignored) {
-                }
-            });
+            World world = player.getWorld();
+            if (world == null) {
+                continue;
+            }
+            // At most one pending refresh per player; the queued one will render the latest state anyway.
+            if (!tracked.tryMarkInFlight()) {
+                tracked.skippedRefreshes++;
+                continue;
+            }
+            batches.computeIfAbsent(world, key -> new ArrayList<>()).add(tracked);
+        }
+        if (batches.isEmpty()) {
+            return;
+        }
+        // Captured only once some player is actually due, not on every wheel tick.
+        GlobalSnapshot snapshot = captureGlobalSnapshot(huds.size());
+        for (Map.Entry<World, List<TrackedHud>> batch : batches.entrySet()) {
+            World world = batch.getKey();
+            List<TrackedHud> members = batch.getValue();
+            String name = world.getName() == null || world.getName().isEmpty() ? "world" : world.getName();
+            WorldRefreshStats stats = worldRefreshStats.computeIfAbsent(name, key -> new WorldRefreshStats());
+            if (!stats.tryEnqueue(name)) {
+                releaseInFlight(members, true);
+                continue;
+            }
+            try {
+                world.execute(() -> refreshWorldBatch(stats, members, snapshot));
+            } catch (Throwable ignored) {
+                stats.dequeued();
+                releaseInFlight(members, false);
+            }
         }
     }
 
-    private void refreshSingle(UUID id) {
-        TrackedHud tracked = huds.get(id);
-        if (tracked == null) {
+    private void releaseInFlight(List<TrackedHud> members, boolean skipped) {
+        for (TrackedHud tracked : members) {
+            if (skipped) {
+                tracked.skippedRefreshes++;
+            }
+            tracked.clearInFlight();
+        }
+    }
+
+    private void refreshWorldBatch(WorldRefreshStats stats, List<TrackedHud> members, GlobalSnapshot snapshot) {
+        long start = System.nanoTime();
+        try {
+            for (TrackedHud tracked : members) {
+                refreshTracked(tracked, snapshot);
+            }
+        } finally {
+            stats.dequeued();
+            stats.record(System.nanoTime() - start, members.size());
+        }
+    }
+
+    // Runs on the player's world thread; clears the in-flight marker set when the refresh was queued.
+    private void refreshTracked(TrackedHud tracked, GlobalSnapshot snapshot) {
+        if (!tracked.claimInFlight()) {
             return;
         }
         Player player = tracked.player;
         if (player == null || player.wasRemoved()) {
-            huds.remove(id);
+            tracked.clearInFlight();
             return;
         }
-        PlayerRef ref = tracked.ref;
-        BetterScoreBoardHud hud = tracked.hud;
-        executeOnWorldThread(player, () -> {
-            try {
-                ScoreboardView view = buildView(player, tracked, huds.size());
-                if (view == null || view.equals(tracked.lastView)) {
-                    return;
-                }
-                tracked.lastView = view;
-                hud.refresh(player, ref, view);
-            } catch (Throwable ignored) {
+        try {
+            ScoreboardView view = buildView(player, tracked, snapshot);
+            if (view == null) {
+                return;
+            }
+            boolean unchanged = view.sameContent(tracked.lastView);
+            long scheduled = nextIntervalTicks(tracked);
+            if (unchanged) {
+                tracked.unchangedRefreshes.incrementAndGet();
+            } else {
+                tracked.unchangedRefreshes.set(0);
             }
-        });
+            // The wheel re-armed this player with the interval from before the refresh; move it if the outcome changed that.
+            long next = nextIntervalTicks(tracked);
+            if (next != scheduled) {
+                rescheduleAfterRefresh(tracked, next);
+            }
+            if (unchanged) {
+                return;
+            }
+            tracked.lastView = view;
+            tracked.hud.refresh(player, tracked.ref, view);
+        } catch (Throwable ignored) {
+        } finally {
+            tracked.clearInFlight();
+        }
     }
 
-    private void executeOnWorldThread(Player player, Runnable action) {
-        if (player == null || action == null) {
+    private void rescheduleAfterRefresh(TrackedHud tracked, long interval) {
+        UUID id = tracked.ref != null ? tracked.ref.getUuid() : null;
+        if (id == null || huds.get(id) != tracked) {
+            return;
+        }
+        if (interval > 0) {
+            refreshWheel.schedule(id, interval);
+        } else {
+            refreshWheel.remove(id);
+        }
+    }
+
+    private void refreshSingle(UUID id) {
+        TrackedHud tracked = huds.get(id);
+        if (tracked == null) {
+            return;
+        }
+        Player player = tracked.player;
+        if (player == null || player.wasRemoved()) {
+            huds.remove(id);
             return;
         }
         World world = player.getWorld();
-        if (world == null) {
+        if (world == null || !tracked.tryMarkInFlight()) {
             return;
         }
-        world.execute(action);
+        GlobalSnapshot snapshot = captureGlobalSnapshot(huds.size());
+        try {
+            world.execute(() -> refreshTracked(tracked, snapshot));
+        } catch (Throwable ignored) {
+            tracked.clearInFlight();
+        }
     }
 
-    private ScoreboardView buildView(Player player, TrackedHud tracked, int onlineCount) {
+    private ScoreboardView buildView(Player player, TrackedHud tracked, GlobalSnapshot snapshot) {
         PageState page = pageForPlayer(player);
         if (page == null) {
             return null;
         }
-        updateDynamicUsage(tracked, page);
-        List<ScoreboardView.LineRender> formatted = formatLines(page, player, onlineCount, tracked);
-        String rawTitle = page.title != null ? page.title : "";
-        LineParts titleParts = decodeLine(applyPlaceholders(rawTitle, player, onlineCount, tracked));
+        if (tracked != null) {
+            tracked.page = page;
+        }
+        PlaceholderContext context = new PlaceholderContext(player, tracked, snapshot);
+        StringBuilder buffer = tracked != null ? tracked.renderBuffer : new StringBuilder();
+        List<ScoreboardView.LineRender> formatted = formatLines(page, context, buffer, tracked);
+        LineParts titleParts = decodeLine(page.titleTemplate.render(buffer, context));
         boolean showLogo = config.logoVisible();
         String logoPath = showLogo ? config.logoTexturePath() : "";
-        return new ScoreboardView(titleParts.text(), titleParts.color(), logoPath, showLogo, DEFAULT_OFFSET_RIGHT, DEFAULT_OFFSET_TOP, List.copyOf(formatted), config.showDivider());
+        ScoreboardView view = new ScoreboardView(titleParts.text(), titleParts.color(), logoPath, showLogo, DEFAULT_OFFSET_RIGHT, DEFAULT_OFFSET_TOP, List.copyOf(formatted), config.showDivider());
+        // Interning compares the view's hash, then its scalars and line version stamps; segments are never walked.
+        return sharedViews.intern(view, view);
     }
 
-    private List<ScoreboardView.LineRender> formatLines(PageState page, Player player, int onlineCount, TrackedHud tracked) {
+    private List<ScoreboardView.LineRender> formatLines(PageState page, PlaceholderContext context, StringBuilder buffer, TrackedHud tracked) {
         List<ScoreboardView.LineRender> formatted = new ArrayList<>();
-        List<String> currentLines = page != null ? page.lines : Collections.emptyList();
-        if (currentLines.isEmpty()) {
+        List<PlaceholderTemplate> templates = page != null ? page.lineTemplates : Collections.emptyList();
+        if (templates.isEmpty()) {
             return formatted;
         }
 
         int max = Math.min(config.maxLines(), BetterScoreBoardHud.MAX_LINES);
-        for (int slot = 0; slot < currentLines.size() && formatted.size() < max; slot++) {
-            String template = currentLines.get(slot);
+        for (int slot = 0; slot < templates.size() && formatted.size() < max; slot++) {
+            PlaceholderTemplate template = templates.get(slot);
             if (template == null) {
                 continue;
             }
-            String lineWithPlaceholders = applyPlaceholders(template, player, onlineCount, tracked);
-            String processed = lineWithPlaceholders != null ? lineWithPlaceholders : "";
-            formatted.add(resolveLineRender(tracked, slot, processed));
+            if (tracked != null) {
+                ScoreboardView.LineRender reused = tracked.reusableLineRender(slot, template, context.onlineCount, context.world, context.worldPlayers, context.sharedEpoch, context.worldEpoch, context.playerEpoch, context.positionEpoch);
+                if (reused != null) {
+                    formatted.add(reused);
+                    continue;
+                }
+            }
+            String processed = template.render(buffer, context);
+            formatted.add(resolveLineRender(tracked, slot, template, context, processed));
         }
         return formatted;
     }
 
-    private ScoreboardView.LineRender resolveLineRender(TrackedHud tracked, int slot, String processed) {
+    private ScoreboardView.LineRender resolveLineRender(TrackedHud tracked, int slot, PlaceholderTemplate template, PlaceholderContext context, String processed) {
         if (tracked == null) {
             return buildLineRender(processed);
         }
-        return tracked.cachedLineRender(slot, processed, () -> buildLineRender(processed));
+        return tracked.cachedLineRender(slot, template, context.onlineCount, context.world, context.worldPlayers, context.sharedEpoch, context.worldEpoch, context.playerEpoch, context.positionEpoch, processed, () -> buildLineRender(processed));
     }
 
     private ScoreboardView.LineRender buildLineRender(String processed) {
+        ScoreboardView.LineRender shared = sharedLineRenders.get(processed);
+        if (shared != null) {
+            return shared;
+        }
         List<ScoreboardView.LineSegment> segments = parseSegments(processed);
-        return new ScoreboardView.LineRender(List.copyOf(segments), false);
+        return sharedLineRenders.intern(processed, new ScoreboardView.LineRender(List.copyOf(segments), false));
     }
 
     private PageState pageForPlayer(Player player) {
@@ -392,202 +676,215 @@ final class BetterScoreBoardService {
         return page.worlds.contains(world);
     }
 
-    private String applyPlaceholders(String template, Player player, int onlineCount, TrackedHud tracked) {
-        String result = normalizePercentPlaceholders(template);
-        if (result.contains("{server}")) {
-            result = result.replace("{server}", serverName);
-        }
-        if (result.contains("{player}")) {
-            result = result.replace("{player}", safePlayerName(player));
-        }
-        if (result.contains("{rank}")) {
-            result = result.replace("{rank}", formatRank(player, tracked));
-        }
-        if (result.contains("{world}")) {
-            result = result.replace("{world}", safeWorld(player));
-        }
-        if (result.contains("{online}")) {
-            result = result.replace("{online}", Integer.toString(Math.max(onlineCount, 0)));
-        }
-        if (result.contains("{max_players}")) {
-            result = result.replace("{max_players}", Integer.toString(resolveMaxPlayers(onlineCount)));
-        }
-        if (result.contains("{playtime}")) {
-            result = result.replace("{playtime}", formatPlaytime(player));
-        }
-        if (result.contains("{totalplaytime}")) {
-            result = result.replace("{totalplaytime}", formatTotalPlaytime(player));
-        }
-        if (result.contains("{tps}")) {
-            result = result.replace("{tps}", formatTps(player, tracked));
-        }
-        if (containsAny(result, "{money}", "{balance}")) {
-            String balanceValue = formatBalance(player, tracked);
-            result = result.replace("{money}", balanceValue);
-            result = result.replace("{balance}", balanceValue);
-        }
-        if (result.contains("{pos_x}")) {
-            result = result.replace("{pos_x}", formatPos(player, Axis.X));
-        }
-        if (result.contains("{pos_y}")) {
-            result = result.replace("{pos_y}", formatPos(player, Axis.Y));
-        }
-        if (result.contains("{pos_z}")) {
-            result = result.replace("{pos_z}", formatPos(player, Axis.Z));
-        }
-        if (result.contains("{gamemode}")) {
-            result = result.replace("{gamemode}", formatGameMode(player));
-        }
-        if (result.contains("{world_tick}")) {
-            result = result.replace("{world_tick}", formatWorldTick(player));
+    // Resolves placeholder references for one view build, going through the TTL caches for providers that declare one.
+    private final class PlaceholderContext implements PlaceholderTemplate.Resolver {
+        private final Player player;
+        private final TrackedHud tracked;
+        private final GlobalSnapshot snapshot;
+        // Inputs that decide whether a non time-varying line can be reused; see PlaceholderProvider.Scope.
+        final int onlineCount;
+        final World world;
+        final int worldPlayers;
+        final int sharedEpoch;
+        final int worldEpoch;
+        final int playerEpoch;
+        final int positionEpoch;
+
+        PlaceholderContext(Player player, TrackedHud tracked, GlobalSnapshot snapshot) {
+            this.player = player;
+            this.tracked = tracked;
+            this.snapshot = snapshot;
+            this.onlineCount = snapshot.online;
+            this.world = player != null ? player.getWorld() : null;
+            this.worldPlayers = world != null ? worldSnapshot(snapshot, world).players : 0;
+            this.sharedEpoch = BetterScoreBoardService.this.sharedEpoch.get();
+            PlaceholderValues memo = world != null && world.getName() != null ? worldValues.get(world.getName()) : null;
+            this.worldEpoch = memo != null ? memo.epoch() : 0;
+            this.playerEpoch = tracked != null ? tracked.values.epoch() : 0;
+            if (tracked != null && tracked.page != null && tracked.page.manifest.positional()) {
+                tracked.samplePosition(player);
+            }
+            this.positionEpoch = tracked != null ? tracked.positionEpoch : 0;
+        }
+
+        @Override
+        public void append(PlaceholderProvider provider, String token, StringBuilder out) {
+            int start = out.length();
+            try {
+                if (ttlFor(provider) > 0L) {
+                    String value = cachedValue(provider, player, tracked, world, snapshot);
+                    out.append(value != null ? value : token);
+                } else if (provider instanceof SnapshotPlaceholder fromSnapshot) {
+                    fromSnapshot.appendFrom(snapshot, snapshotWorld(fromSnapshot, snapshot, world), out);
+                } else if (provider.scope().compareTo(PlaceholderProvider.Scope.GLOBAL) <= 0) {
+                    String value = snapshot.value(provider, player);
+                    out.append(value != null ? value : token);
+                } else if (provider.scope() == PlaceholderProvider.Scope.WORLD && world != null) {
+                    String value = worldSnapshot(snapshot, world).value(provider, player);
+                    out.append(value != null ? value : token);
+                } else if (!provider.appendTo(player, out)) {
+                    out.append(token);
+                }
+            } catch (Throwable ignored) {
+                out.setLength(start);
+                out.append(token);
+            }
         }
-        if (result.contains("{chunk_x}")) {
-            result = result.replace("{chunk_x}", formatChunk(player, Axis.X));
+    }
+
+    private void rebuildMemoTtls() {
+        Map<PlaceholderProvider, Long> ttls = new HashMap<>();
+        for (Map.Entry<String, Long> entry : config.placeholderCacheMillis().entrySet()) {
+            PlaceholderProvider provider = placeholders.get(entry.getKey());
+            if (provider != null) {
+                ttls.put(provider, entry.getValue());
+            } else if (unknownCacheKeys.add(entry.getKey())) {
+                System.out.println("[BetterScoreBoard] placeholderCacheSeconds: unknown placeholder '" + entry.getKey() + "', ignored until a plugin registers it");
+            }
         }
-        if (result.contains("{chunk_z}")) {
-            result = result.replace("{chunk_z}", formatChunk(player, Axis.Z));
+        memoTtls = Map.copyOf(ttls);
+    }
+
+    private long ttlFor(PlaceholderProvider provider) {
+        Long configured = memoTtls.get(provider);
+        return configured != null ? configured : provider.ttlMillis();
+    }
+
+    private PlaceholderValues valuesFor(PlaceholderProvider provider, TrackedHud tracked, World world) {
+        return switch (provider.scope()) {
+            case PLAYER -> tracked != null ? tracked.values : null;
+            case WORLD -> world != null && world.getName() != null ? worldValues.computeIfAbsent(world.getName(), name -> new PlaceholderValues()) : null;
+            default -> sharedValues;
+        };
+    }
+
+    // Async providers serve the last value until the data refresher replaces it; sync ones re-resolve once expired,
+    // and only when a line being rendered asks for them.
+    private String cachedValue(PlaceholderProvider provider, Player player, TrackedHud tracked, World world, GlobalSnapshot snapshot) {
+        PlaceholderValues values = valuesFor(provider, tracked, world);
+        if (values == null) {
+            return resolveNow(provider, player, world, snapshot);
         }
-        if (result.contains("{uuid}")) {
-            result = result.replace("{uuid}", formatUuid(player));
+        long now = System.currentTimeMillis();
+        PlaceholderValues.Entry cached = values.get(provider);
+        if (cached != null && (provider.async() || now < cached.expiresAtMs())) {
+            return cached.value();
+        }
+        if (provider.async()) {
+            // Never block the world thread on another plugin: show the default, already expired, and fetch it in the background.
+            String fallback = provider instanceof BuiltInPlaceholder builtIn ? builtIn.fallback : "";
+            values.put(provider, fallback, now);
+            if (tracked != null) {
+                dataRefresher.execute(() -> refreshDynamicDataFor(tracked));
+            }
+            return fallback;
         }
-        if (containsAny(result, "{faction}", "{faction_rank}", "{faction_tag}", "%faction%", "%faction_rank%", "%faction_tag%",
-            "{power}", "{powermax}", "{factionpower}", "{factionpowermax}", "{claim}", "{maxclaim}",
-            "%power%", "%powermax%", "%factionpower%", "%factionpowermax%", "%claim%", "%maxclaim%")) {
-            result = normalizeFactionPlaceholders(result);
-            result = replaceFactionTokens(result, tracked, player);
+        String value = resolveNow(provider, player, world, snapshot);
+        storeValue(values, provider, value, now, tracked, world);
+        return value;
+    }
+
+    // Snapshot placeholders read the cycle being rendered, never whichever snapshot was captured last.
+    private String resolveNow(PlaceholderProvider provider, Player player, World world, GlobalSnapshot snapshot) {
+        if (provider instanceof SnapshotPlaceholder fromSnapshot) {
+            StringBuilder out = new StringBuilder(16);
+            fromSnapshot.appendFrom(snapshot, snapshotWorld(fromSnapshot, snapshot, world), out);
+            return out.toString();
         }
-        return result;
+        return provider.resolve(player);
     }
 
-    private void updateDynamicUsage(TrackedHud tracked, PageState page) {
-        if (tracked == null || page == null) {
+    private WorldSnapshot snapshotWorld(SnapshotPlaceholder provider, GlobalSnapshot snapshot, World world) {
+        return provider.scope() == PlaceholderProvider.Scope.WORLD && world != null ? worldSnapshot(snapshot, world) : WorldSnapshot.NONE;
+    }
+
+    // Player and world values move their own holder's epoch; only server-wide ones touch the epoch every line checks.
+    // Whoever can see the new value also drops any back-off.
+    private void storeValue(PlaceholderValues values, PlaceholderProvider provider, String value, long now, TrackedHud tracked, World world) {
+        if (!values.put(provider, value, now + ttlFor(provider))) {
             return;
         }
-        boolean needsBalance = false;
-        boolean needsRank = false;
-        boolean needsFaction = false;
-        if (page.title != null && !page.title.isEmpty()) {
-            String normalized = normalizePercentPlaceholders(page.title);
-            needsBalance = containsAny(normalized, "{money}", "{balance}");
-            needsRank = normalized.contains("{rank}");
-            needsFaction = containsAny(normalized, "{faction}", "{faction_rank}", "{faction_tag}",
-                "{power}", "{powermax}", "{factionpower}", "{factionpowermax}", "{claim}", "{maxclaim}");
-        }
-        if (page.lines != null) {
-            for (String line : page.lines) {
-                if (line == null || line.isEmpty()) {
-                    continue;
-                }
-                String normalized = normalizePercentPlaceholders(line);
-                if (!needsBalance && containsAny(normalized, "{money}", "{balance}")) {
-                    needsBalance = true;
-                }
-                if (!needsRank && normalized.contains("{rank}")) {
-                    needsRank = true;
-                }
-                if (!needsFaction && containsAny(normalized, "{faction}", "{faction_rank}", "{faction_tag}",
-                    "{power}", "{powermax}", "{factionpower}", "{factionpowermax}", "{claim}", "{maxclaim}")) {
-                    needsFaction = true;
-                }
-                if (needsBalance && needsRank && needsFaction) {
-                    break;
-                }
+        switch (provider.scope()) {
+            case PLAYER -> snapBack(tracked);
+            case WORLD -> snapBackAll(world);
+            default -> {
+                sharedEpoch.incrementAndGet();
+                snapBackAll(null);
             }
         }
-        tracked.updateUsage(needsBalance, needsRank, needsFaction);
     }
 
-    private String normalizePercentPlaceholders(String text) {
-        if (text == null || text.isEmpty()) {
-            return text;
+    private GlobalSnapshot captureGlobalSnapshot(int onlineCount) {
+        GlobalSnapshot snapshot = new GlobalSnapshot(onlineCount, resolveMaxPlayers(onlineCount));
+        GlobalSnapshot previous = globalSnapshot;
+        globalSnapshot = snapshot;
+        if (previous != null && previous.online != snapshot.online) {
+            snapBackAll(null);
         }
-        String updated = text;
-        updated = updated.replace("%server%", "{server}");
-        updated = updated.replace("%world%", "{world}");
-        updated = updated.replace("%online%", "{online}");
-        updated = updated.replace("%max_players%", "{max_players}");
-        updated = updated.replace("%player%", "{player}");
-        updated = updated.replace("%rank%", "{rank}");
-        updated = updated.replace("%playtime%", "{playtime}");
-        updated = updated.replace("%totalplaytime%", "{totalplaytime}");
-        updated = updated.replace("%tps%", "{tps}");
-        updated = updated.replace("%money%", "{money}");
-        updated = updated.replace("%balance%", "{balance}");
-        updated = updated.replace("%pos_x%", "{pos_x}");
-        updated = updated.replace("%pos_y%", "{pos_y}");
-        updated = updated.replace("%pos_z%", "{pos_z}");
-        updated = updated.replace("%gamemode%", "{gamemode}");
-        updated = updated.replace("%world_tick%", "{world_tick}");
-        updated = updated.replace("%chunk_x%", "{chunk_x}");
-        updated = updated.replace("%chunk_z%", "{chunk_z}");
-        updated = updated.replace("%uuid%", "{uuid}");
-        updated = updated.replace("%faction%", "{faction}");
-        updated = updated.replace("%faction_rank%", "{faction_rank}");
-        updated = updated.replace("%faction_tag%", "{faction_tag}");
-        updated = updated.replace("%power%", "{power}");
-        updated = updated.replace("%powermax%", "{powermax}");
-        updated = updated.replace("%factionpower%", "{factionpower}");
-        updated = updated.replace("%factionpowermax%", "{factionpowermax}");
-        updated = updated.replace("%claim%", "{claim}");
-        updated = updated.replace("%maxclaim%", "{maxclaim}");
-        return updated;
-    }
-
-    private boolean containsAny(String text, String... tokens) {
-        if (text == null || text.isEmpty() || tokens == null) {
-            return false;
-        }
-        for (String token : tokens) {
-            if (token != null && !token.isEmpty() && text.contains(token)) {
-                return true;
-            }
-        }
-        return false;
+        return snapshot;
     }
 
-    private String normalizeFactionPlaceholders(String text) {
-        if (text == null || text.isEmpty()) {
-            return text;
+    private WorldSnapshot worldSnapshot(Player player) {
+        World world = player != null ? player.getWorld() : null;
+        return world != null ? worldSnapshot(currentGlobalSnapshot(), world) : WorldSnapshot.NONE;
+    }
+
+    // Built by the first player of a world rendered in a cycle, on that world's thread; everyone else in the world reuses it.
+    private WorldSnapshot worldSnapshot(GlobalSnapshot snapshot, World world) {
+        WorldSnapshot existing = snapshot.worlds.get(world);
+        if (existing != null) {
+            return existing;
         }
-        String updated = text;
-        updated = updated.replace("{faction}", "%faction%");
-        updated = updated.replace("{faction_rank}", "%faction_rank%");
-        updated = updated.replace("{faction_tag}", "%faction_tag%");
-        return updated;
+        String name = world.getName() == null || world.getName().isEmpty() ? "world" : world.getName();
+        long tick = world.getTick();
+        WorldClock clock = worldClocks.computeIfAbsent(name, key -> new WorldClock(tick));
+        WorldSnapshot created = new WorldSnapshot(name, tick, clock.sample(tick, System.currentTimeMillis()), countWorldPlayers(world));
+        existing = snapshot.worlds.putIfAbsent(world, created);
+        return existing != null ? existing : created;
     }
 
-    private String replaceFactionTokens(String text, TrackedHud tracked, Player player) {
-        if (text == null || text.isEmpty()) {
-            return text;
+    // Players actually in the world, from the server; tracked HUDs are only counted when the world does not expose that.
+    private int countWorldPlayers(World world) {
+        try {
+            if (worldPlayerCount == null) {
+                worldPlayerCount = resolveWorldPlayerCount(world.getClass());
+            }
+            if (worldPlayerCount.isPresent()) {
+                Object value = worldPlayerCount.get().invoke(world);
+                if (value instanceof Number number) {
+                    return number.intValue();
+                }
+                if (value instanceof Collection<?> players) {
+                    return players.size();
+                }
+            }
+        } catch (Throwable ignored) {
         }
-        FactionSnapshot snapshot = resolveFactionSnapshot(tracked, player);
-        if (snapshot == null) {
-            return text;
+        int count = 0;
+        for (TrackedHud tracked : huds.values()) {
+            if (tracked.player != null && tracked.player.getWorld() == world) {
+                count++;
+            }
         }
-        String updated = text;
-        updated = updated.replace("%faction%", snapshot.name());
-        updated = updated.replace("%faction_rank%", snapshot.rank());
-        updated = updated.replace("%faction_tag%", snapshot.tag());
-        updated = updated.replace("{power}", snapshot.power());
-        updated = updated.replace("{powermax}", snapshot.powerMax());
-        updated = updated.replace("{factionpower}", snapshot.factionPower());
-        updated = updated.replace("{factionpowermax}", snapshot.factionPowerMax());
-        updated = updated.replace("{claim}", snapshot.claim());
-        updated = updated.replace("{maxclaim}", snapshot.maxClaim());
-        updated = updated.replace("%power%", snapshot.power());
-        updated = updated.replace("%powermax%", snapshot.powerMax());
-        updated = updated.replace("%factionpower%", snapshot.factionPower());
-        updated = updated.replace("%factionpowermax%", snapshot.factionPowerMax());
-        updated = updated.replace("%claim%", snapshot.claim());
-        updated = updated.replace("%maxclaim%", snapshot.maxClaim());
-        return updated;
-    }
-
-    private FactionSnapshot resolveFactionSnapshot(TrackedHud tracked, Player player) {
-        if (tracked != null && tracked.factionSnapshot() != null) {
-            return tracked.factionSnapshot();
+        return count;
+    }
+
+    private static java.util.Optional<Method> resolveWorldPlayerCount(Class<?> worldClass) {
+        for (String name : new String[] {"getPlayerCount", "getPlayerRefs", "getPlayers"}) {
+            try {
+                Method method = worldClass.getMethod(name);
+                if (method.getReturnType() == int.class || Collection.class.isAssignableFrom(method.getReturnType())) {
+                    return java.util.Optional.of(method);
+                }
+            } catch (Throwable ignored) {
+            }
         }
-        return hyFactionsPlaceholderSource.snapshot(player);
+        return java.util.Optional.empty();
+    }
+
+    private GlobalSnapshot currentGlobalSnapshot() {
+        GlobalSnapshot snapshot = globalSnapshot;
+        return snapshot != null ? snapshot : captureGlobalSnapshot(huds.size());
     }
 
     private int resolveMaxPlayers(int onlineCount) {
@@ -614,6 +911,7 @@ final class BetterScoreBoardService {
     void setLine(int index, String text) {
         ensureSize(index + 1);
         currentPage().lines.set(index, text);
+        currentPage().compile();
         refreshAll();
     }
 
@@ -622,6 +920,7 @@ final class BetterScoreBoardService {
             return false;
         }
         currentPage().lines.add(text);
+        currentPage().compile();
         refreshAll();
         return true;
     }
@@ -631,6 +930,7 @@ final class BetterScoreBoardService {
             return false;
         }
         currentPage().lines.remove(index);
+        currentPage().compile();
         refreshAll();
         return true;
     }
@@ -643,12 +943,13 @@ final class BetterScoreBoardService {
 
     void reloadConfig() {
         this.config = BetterScoreBoardConfig.load(config.dataDir());
+        rebuildMemoTtls();
         pages.clear();
         for (BetterScoreBoardConfig.PageConfig pageConfig : config.pages()) {
-            pages.add(PageState.from(pageConfig));
+            pages.add(PageState.from(pageConfig, placeholders));
         }
         while (pages.size() < BetterScoreBoardConfig.MAX_PAGES) {
-            pages.add(PageState.emptyPage(pages.size() + 1));
+            pages.add(PageState.emptyPage(pages.size() + 1, placeholders));
         }
         activePageIndex = clampPageIndex(config.activePage() - 1);
         rotationEnabled = config.rotationEnabled();
@@ -663,10 +964,10 @@ final class BetterScoreBoardService {
         }
         pages.clear();
         for (BetterScoreBoardConfig.PageConfig pageConfig : updatedPages) {
-            pages.add(PageState.from(pageConfig));
+            pages.add(PageState.from(pageConfig, placeholders));
         }
         while (pages.size() < BetterScoreBoardConfig.MAX_PAGES) {
-            pages.add(PageState.emptyPage(pages.size() + 1));
+            pages.add(PageState.emptyPage(pages.size() + 1, placeholders));
         }
         activePageIndex = clampPageIndex(pageIndex);
         rotationEnabled = updatedRotationEnabled;
@@ -711,8 +1012,33 @@ final class BetterScoreBoardService {
         return true;
     }
 
+    // One line per world that has rendered a batch: the last batch, the running average and how many batches were skipped.
+    String refreshStatsLine() {
+        if (worldRefreshStats.isEmpty()) {
+            return "No scoreboard refreshes yet.";
+        }
+        StringBuilder line = new StringBuilder("Refresh timings:");
+        for (Map.Entry<String, WorldRefreshStats> entry : new java.util.TreeMap<>(worldRefreshStats).entrySet()) {
+            line.append('\n').append(entry.getKey()).append(": ");
+            entry.getValue().appendSummary(line);
+        }
+        long skipped = 0;
+        for (TrackedHud tracked : huds.values()) {
+            skipped += tracked.skippedRefreshes;
+        }
+        line.append("\nPlayer refreshes skipped while one was still queued: ").append(skipped);
+        return line.toString();
+    }
+
     String placeholdersLine() {
-        return PLACEHOLDERS;
+        StringBuilder line = new StringBuilder();
+        for (String name : placeholders.names()) {
+            if (line.length() > 0) {
+                line.append(", ");
+            }
+            line.append('{').append(name).append('}');
+        }
+        return line.toString();
     }
 
     private void ensureSize(int size) {
@@ -724,11 +1050,11 @@ final class BetterScoreBoardService {
     private void ensurePages() {
         if (pages.isEmpty()) {
             for (BetterScoreBoardConfig.PageConfig pageConfig : config.pages()) {
-                pages.add(PageState.from(pageConfig));
+                pages.add(PageState.from(pageConfig, placeholders));
             }
         }
         while (pages.size() < BetterScoreBoardConfig.MAX_PAGES) {
-            pages.add(PageState.emptyPage(pages.size() + 1));
+            pages.add(PageState.emptyPage(pages.size() + 1, placeholders));
         }
     }
 
@@ -736,31 +1062,25 @@ final class BetterScoreBoardService {
         return com.hypixel.hytale.server.core.Message.raw(raw);
     }
 
-    private String formatPlaytime(Player player) {
+    private void appendPlaytime(Player player, StringBuilder out) {
         TrackedHud tracked = huds.get(player.getUuid());
         long join = tracked != null ? tracked.joinedAtMs : System.currentTimeMillis();
         long delta = Math.max(0, System.currentTimeMillis() - join);
-        long seconds = delta / 1000;
-        long hours = seconds / 3600;
-        long minutes = (seconds % 3600) / 60;
-        long secs = seconds % 60;
-        return String.format("%02dh %02dm %02ds", hours, minutes, secs);
+        ScoreboardFormat.appendDuration(out, delta / 1000);
     }
 
-    private String formatTotalPlaytime(Player player) {
+    private void appendTotalPlaytime(Player player, StringBuilder out) {
         long seconds = 0;
         if (player != null && player.getUuid() != null) {
             seconds = playtimeTracker.getTotalSeconds(player.getUuid());
         }
-        long hours = seconds / 3600;
-        long minutes = (seconds % 3600) / 60;
-        long secs = seconds % 60;
-        return String.format("%02dh %02dm %02ds", hours, minutes, secs);
+        ScoreboardFormat.appendDuration(out, seconds);
     }
 
-    private String formatPos(Player player, Axis axis) {
+    private void appendPos(Player player, Axis axis, StringBuilder out) {
         if (player == null || player.getTransformComponent() == null || player.getTransformComponent().getPosition() == null) {
-            return "0";
+            out.append('0');
+            return;
         }
         double value = switch (axis) {
             case X -> player.getTransformComponent().getPosition().getX();
@@ -772,55 +1092,8 @@ final class BetterScoreBoardService {
             case Y -> "Y: ";
             case Z -> "Z: ";
         };
-        return prefix + (int) Math.round(value);
-    }
-
-    private String formatTps(Player player, TrackedHud tracked) {
-        if (player == null || player.getWorld() == null) {
-            return "20.0";
-        }
-        TrackedHud resolved = tracked != null ? tracked : huds.get(player.getUuid());
-        if (resolved == null) {
-            return "20.0";
-        }
-        long tickNow = player.getWorld().getTick();
-        long timeNow = System.currentTimeMillis();
-        long tickDelta = tickNow - resolved.lastWorldTick;
-        long timeDelta = timeNow - resolved.lastTickTimeMs;
-        if (tickDelta <= 0 || timeDelta <= 0) {
-            resolved.lastWorldTick = tickNow;
-            resolved.lastTickTimeMs = timeNow;
-            return formatCachedTps(resolved);
-        }
-        if (timeDelta < 1000L) {
-            return formatCachedTps(resolved);
-        }
-        double tps = tickDelta / (timeDelta / 1000.0);
-        resolved.lastWorldTick = tickNow;
-        resolved.lastTickTimeMs = timeNow;
-        resolved.lastTpsValue = Math.max(0.0, Math.min(20.0, tps));
-        return formatCachedTps(resolved);
-    }
-
-    private String formatCachedTps(TrackedHud tracked) {
-        double value = tracked != null ? tracked.lastTpsValue : 20.0;
-        return String.format("%.1f", value);
-    }
-
-
-    private String formatBalance(Player player, TrackedHud tracked) {
-        if (tracked != null) {
-            return tracked.currentBalance();
-        }
-        return fetchBalanceNow(player);
-    }
-
-    private String formatRank(Player player, TrackedHud tracked) {
-        if (tracked != null) {
-            return tracked.currentRank();
-        }
-        String rank = fetchRankNow(player);
-        return rank != null ? normalizeLuckPermsColors(rank) : "";
+        out.append(prefix);
+        ScoreboardFormat.appendInt(out, Math.round(value));
     }
 
     private String fetchBalanceNow(Player player) {
@@ -1022,24 +1295,17 @@ final class BetterScoreBoardService {
         return player.getGameMode().name();
     }
 
-    private String formatWorldTick(Player player) {
-        if (player == null || player.getWorld() == null) {
-            return "0";
-        }
-        return Long.toString(player.getWorld().getTick());
-    }
-
-    private String formatChunk(Player player, Axis axis) {
+    private void appendChunk(Player player, Axis axis, StringBuilder out) {
         if (player == null || player.getTransformComponent() == null || player.getTransformComponent().getPosition() == null) {
-            return "0";
+            out.append('0');
+            return;
         }
         double value = switch (axis) {
             case X -> player.getTransformComponent().getPosition().getX();
             case Z -> player.getTransformComponent().getPosition().getZ();
             default -> 0.0;
         };
-        int chunk = (int) Math.floor(value / 16.0);
-        return Integer.toString(chunk);
+        ScoreboardFormat.appendInt(out, (int) Math.floor(value / 16.0));
     }
 
     private String formatUuid(Player player) {
@@ -1136,7 +1402,66 @@ final class BetterScoreBoardService {
         if (segments.isEmpty()) {
             segments.add(new ScoreboardView.LineSegment("", currentColor, bold));
         }
-        return segments;
+        return packSegments(coalesceSegments(segments));
+    }
+
+    // Merge neighbours that render identically; whitespace takes no color, only the bold state matters.
+    private List<ScoreboardView.LineSegment> coalesceSegments(List<ScoreboardView.LineSegment> segments) {
+        if (segments.size() < 2) {
+            return segments;
+        }
+        List<ScoreboardView.LineSegment> merged = new ArrayList<>(segments.size());
+        ScoreboardView.LineSegment pending = segments.get(0);
+        for (int i = 1; i < segments.size(); i++) {
+            ScoreboardView.LineSegment next = segments.get(i);
+            if (pending.bold() != next.bold()) {
+                merged.add(pending);
+                pending = next;
+                continue;
+            }
+            if (sameColor(pending.color(), next.color()) || next.text().isBlank()) {
+                pending = new ScoreboardView.LineSegment(pending.text() + next.text(), pending.color(), pending.bold());
+            } else if (pending.text().isBlank()) {
+                pending = new ScoreboardView.LineSegment(pending.text() + next.text(), next.color(), next.bold());
+            } else {
+                merged.add(pending);
+                pending = next;
+            }
+        }
+        merged.add(pending);
+        return merged;
+    }
+
+    // The HUD only has MAX_SEGMENTS labels per row: merge the shortest neighbouring pair until the line fits,
+    // keeping the style of the longer half, so all text stays visible and as few characters as possible change style.
+    private List<ScoreboardView.LineSegment> packSegments(List<ScoreboardView.LineSegment> segments) {
+        if (segments.size() <= BetterScoreBoardHud.MAX_SEGMENTS) {
+            return segments;
+        }
+        List<ScoreboardView.LineSegment> packed = new ArrayList<>(segments);
+        while (packed.size() > BetterScoreBoardHud.MAX_SEGMENTS) {
+            int best = 0;
+            int bestLength = Integer.MAX_VALUE;
+            for (int i = 0; i < packed.size() - 1; i++) {
+                int length = packed.get(i).text().length() + packed.get(i + 1).text().length();
+                if (length < bestLength) {
+                    best = i;
+                    bestLength = length;
+                }
+            }
+            ScoreboardView.LineSegment left = packed.get(best);
+            ScoreboardView.LineSegment right = packed.get(best + 1);
+            ScoreboardView.LineSegment style = right.text().length() > left.text().length() ? right : left;
+            packed.set(best, new ScoreboardView.LineSegment(left.text() + right.text(), style.color(), style.bold()));
+            packed.remove(best + 1);
+        }
+        return packed;
+    }
+
+    private boolean sameColor(String left, String right) {
+        String a = left == null || left.isEmpty() ? DEFAULT_TEXT_COLOR : left;
+        String b = right == null || right.isEmpty() ? DEFAULT_TEXT_COLOR : right;
+        return a.equals(b);
     }
 
     private String normalizeColor(String raw) {
@@ -2579,113 +2904,612 @@ final class BetterScoreBoardService {
         final PlayerRef ref;
         final BetterScoreBoardHud hud;
         final long joinedAtMs;
-        long lastWorldTick;
-        long lastTickTimeMs;
-        double lastTpsValue;
         ScoreboardView lastView;
         final LineCacheEntry[] lineCache;
-        private volatile boolean needsBalance;
-        private volatile boolean needsRank;
-        private volatile boolean needsFaction;
-        private volatile String balance;
-        private volatile String rank;
-        private volatile FactionSnapshot factionSnapshot;
+        // TTL-cached values of player-scoped providers; its epoch invalidates reused player-scoped lines.
+        final PlaceholderValues values = new PlaceholderValues();
+        // Page last rendered for this player; the data refresher reads its manifest.
+        volatile PageState page;
+        // Reused by every template render for this player; only touched from the player's world thread.
+        final StringBuilder renderBuffer = new StringBuilder(64);
+        // Consecutive refreshes that produced the same view; drives the adaptive back-off. Snap-backs reset it from any thread.
+        final java.util.concurrent.atomic.AtomicInteger unchangedRefreshes = new java.util.concurrent.atomic.AtomicInteger();
+        // When a refresh for this player was queued on its world thread, negated while it runs; 0 while none is.
+        private final java.util.concurrent.atomic.AtomicLong inFlightSinceMs = new java.util.concurrent.atomic.AtomicLong();
+        // Refreshes dropped because one was still queued; shown by /scoreboard stats.
+        volatile int skippedRefreshes;
+        // Last sampled block and chunk coordinates; positionEpoch moves only when one of them changes.
+        boolean positionKnown;
+        int blockX;
+        int blockY;
+        int blockZ;
+        int chunkX;
+        int chunkZ;
+        int positionEpoch;
 
         TrackedHud(Player player, PlayerRef ref, BetterScoreBoardHud hud) {
             this.player = player;
             this.ref = ref;
             this.hud = hud;
             this.joinedAtMs = System.currentTimeMillis();
-            this.lastTickTimeMs = System.currentTimeMillis();
-            this.lastWorldTick = player != null && player.getWorld() != null ? player.getWorld().getTick() : 0;
-            this.lastTpsValue = 20.0;
             this.lastView = null;
             this.lineCache = new LineCacheEntry[BetterScoreBoardHud.MAX_LINES];
-            this.needsBalance = false;
-            this.needsRank = false;
-            this.needsFaction = false;
-            this.balance = "0";
-            this.rank = "";
-            this.factionSnapshot = new FactionSnapshot("", "", "", "0", "0", "0", "0", "0", "0");
         }
 
-        ScoreboardView.LineRender cachedLineRender(int slot, String raw, Supplier<ScoreboardView.LineRender> builder) {
+        void samplePosition(Player player) {
+            if (player == null || player.getTransformComponent() == null || player.getTransformComponent().getPosition() == null) {
+                return;
+            }
+            double x = player.getTransformComponent().getPosition().getX();
+            double y = player.getTransformComponent().getPosition().getY();
+            double z = player.getTransformComponent().getPosition().getZ();
+            int nextX = (int) Math.round(x);
+            int nextY = (int) Math.round(y);
+            int nextZ = (int) Math.round(z);
+            int nextChunkX = (int) Math.floor(x / 16.0);
+            int nextChunkZ = (int) Math.floor(z / 16.0);
+            if (positionKnown && nextX == blockX && nextY == blockY && nextZ == blockZ && nextChunkX == chunkX && nextChunkZ == chunkZ) {
+                return;
+            }
+            blockX = nextX;
+            blockY = nextY;
+            blockZ = nextZ;
+            chunkX = nextChunkX;
+            chunkZ = nextChunkZ;
+            positionKnown = true;
+            positionEpoch++;
+        }
+
+        // False while a refresh is running or queued, unless the queued one has waited longer than STALE_QUEUED_WORK_MS.
+        boolean tryMarkInFlight() {
+            long now = System.currentTimeMillis();
+            long since = inFlightSinceMs.get();
+            if (since < 0L || (since != 0L && now - since < STALE_QUEUED_WORK_MS)) {
+                return false;
+            }
+            return inFlightSinceMs.compareAndSet(since, now);
+        }
+
+        // Called by a queued refresh as it starts. Only one task can hold a queued marker, so a stale task that runs
+        // after its marker was replaced, or after the replacement already ran, leaves the HUD alone.
+        boolean claimInFlight() {
+            long since = inFlightSinceMs.get();
+            return since > 0L && inFlightSinceMs.compareAndSet(since, -since);
+        }
+
+        void clearInFlight() {
+            inFlightSinceMs.set(0L);
+        }
+
+        // Returns the previous render for this slot when the line is not time-varying and none of its scope's inputs moved.
+        ScoreboardView.LineRender reusableLineRender(int slot, PlaceholderTemplate template, int onlineCount, World world, int worldPlayers, int sharedEpoch, int worldEpoch, int playerEpoch, int positionEpoch) {
+            if (slot < 0 || slot >= lineCache.length || template.timeVarying()) {
+                return null;
+            }
+            LineCacheEntry entry = lineCache[slot];
+            if (entry == null || entry.template != template || !entry.inputsMatch(template.scope(), onlineCount, world, worldPlayers, sharedEpoch, worldEpoch, playerEpoch)
+                || (template.positional() && entry.positionEpoch != positionEpoch)) {
+                return null;
+            }
+            return entry.render;
+        }
+
+        ScoreboardView.LineRender cachedLineRender(int slot, PlaceholderTemplate template, int onlineCount, World world, int worldPlayers, int sharedEpoch, int worldEpoch, int playerEpoch, int positionEpoch, String raw, Supplier<ScoreboardView.LineRender> builder) {
             if (slot < 0 || slot >= lineCache.length) {
                 return builder.get();
             }
             LineCacheEntry entry = lineCache[slot];
-            if (entry != null && entry.raw.equals(raw)) {
-                return entry.render;
-            }
-            ScoreboardView.LineRender render = builder.get();
-            lineCache[slot] = new LineCacheEntry(raw, render);
+            ScoreboardView.LineRender render = entry != null && entry.raw.equals(raw) ? entry.render : builder.get();
+            lineCache[slot] = new LineCacheEntry(raw, render, template, onlineCount, world, worldPlayers, sharedEpoch, worldEpoch, playerEpoch, positionEpoch);
             return render;
         }
+    }
+
+    // Bounded canonicalizing cache; dropped wholesale when full since entries are cheap to rebuild.
+    private static final class Interner<K, V> {
+        private final Map<K, V> entries = new ConcurrentHashMap<>();
+        private final int limit;
+
+        Interner(int limit) {
+            this.limit = limit;
+        }
+
+        V get(K key) {
+            return entries.get(key);
+        }
+
+        V intern(K key, V value) {
+            if (key == null || value == null) {
+                return value;
+            }
+            V existing = entries.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            if (entries.size() >= limit) {
+                entries.clear();
+            }
+            existing = entries.putIfAbsent(key, value);
+            return existing != null ? existing : value;
+        }
+    }
+
+    // {pos_*} and {chunk_*}: read from the player's quantized position so lines only re-render when the block or chunk changes.
+    private final class PositionPlaceholder implements PlaceholderProvider, PlaceholderTemplate.PositionDependent {
+        private final Axis axis;
+        private final boolean chunk;
+
+        PositionPlaceholder(Axis axis, boolean chunk) {
+            this.axis = axis;
+            this.chunk = chunk;
+        }
+
+        @Override
+        public String resolve(Player player) {
+            StringBuilder out = new StringBuilder(16);
+            appendTo(player, out);
+            return out.toString();
+        }
+
+        @Override
+        public boolean appendTo(Player player, StringBuilder out) {
+            TrackedHud tracked = player != null && player.getUuid() != null ? huds.get(player.getUuid()) : null;
+            if (tracked == null || !tracked.positionKnown) {
+                if (chunk) {
+                    appendChunk(player, axis, out);
+                } else {
+                    appendPos(player, axis, out);
+                }
+                return true;
+            }
+            if (chunk) {
+                ScoreboardFormat.appendInt(out, axis == Axis.X ? tracked.chunkX : tracked.chunkZ);
+                return true;
+            }
+            switch (axis) {
+                case X -> out.append("X: ");
+                case Y -> out.append("Y: ");
+                case Z -> out.append("Z: ");
+            }
+            ScoreboardFormat.appendInt(out, axis == Axis.X ? tracked.blockX : axis == Axis.Y ? tracked.blockY : tracked.blockZ);
+            return true;
+        }
 
-        void updateBalance(String value) {
-            this.balance = value != null ? value : "";
+        @Override
+        public Scope scope() {
+            return Scope.PLAYER;
         }
 
-        String currentBalance() {
-            return balance != null ? balance : "";
+        @Override
+        public boolean timeVarying() {
+            return false;
         }
+    }
+
+    private interface SnapshotAppender {
+        void append(GlobalSnapshot global, WorldSnapshot world, StringBuilder out);
+    }
 
-        void updateRank(String value) {
-            this.rank = value != null ? value : "";
+    // Built-ins that are pure reads of the cycle's snapshots; renders pass their own snapshot in through appendFrom.
+    private final class SnapshotPlaceholder implements PlaceholderProvider {
+        private final Scope scope;
+        private final boolean timeVarying;
+        private final SnapshotAppender appender;
+
+        SnapshotPlaceholder(Scope scope, boolean timeVarying, SnapshotAppender appender) {
+            this.scope = scope;
+            this.timeVarying = timeVarying;
+            this.appender = appender;
         }
 
-        String currentRank() {
-            return rank != null ? rank : "";
+        void appendFrom(GlobalSnapshot global, WorldSnapshot world, StringBuilder out) {
+            appender.append(global, world, out);
         }
 
-        void updateFaction(FactionSnapshot snapshot) {
-            this.factionSnapshot = snapshot != null ? snapshot : new FactionSnapshot("", "", "", "0", "0", "0", "0", "0", "0");
+        @Override
+        public String resolve(Player player) {
+            StringBuilder out = new StringBuilder(16);
+            appendTo(player, out);
+            return out.toString();
         }
 
-        FactionSnapshot factionSnapshot() {
-            return factionSnapshot;
+        // Outside a render (e.g. another plugin resolving the name) the most recent snapshot is the best there is.
+        @Override
+        public boolean appendTo(Player player, StringBuilder out) {
+            appendFrom(currentGlobalSnapshot(), worldSnapshot(player), out);
+            return true;
         }
 
-        void updateUsage(boolean needsBalance, boolean needsRank, boolean needsFaction) {
-            this.needsBalance = needsBalance;
-            this.needsRank = needsRank;
-            this.needsFaction = needsFaction;
+        @Override
+        public Scope scope() {
+            return scope;
         }
 
-        boolean needsBalance() {
-            return needsBalance;
+        @Override
+        public boolean timeVarying() {
+            return timeVarying;
         }
+    }
 
-        boolean needsRank() {
-            return needsRank;
+    // Server-wide values captured once per refresh cycle and shared by every player rendered in that cycle.
+    private static final class GlobalSnapshot {
+        final int online;
+        final int maxPlayers;
+        // Static and global provider values, resolved by the first player that needs them this cycle.
+        private final Map<PlaceholderProvider, String> values = new ConcurrentHashMap<>();
+
+        final Map<World, WorldSnapshot> worlds = new ConcurrentHashMap<>();
+
+        GlobalSnapshot(int online, int maxPlayers) {
+            this.online = Math.max(online, 0);
+            this.maxPlayers = maxPlayers;
         }
 
-        boolean needsFaction() {
-            return needsFaction;
+        String value(PlaceholderProvider provider, Player player) {
+            String value = values.get(provider);
+            if (value == null) {
+                value = provider.resolve(player);
+                if (value != null) {
+                    values.putIfAbsent(provider, value);
+                }
+            }
+            return value;
+        }
+    }
+
+    // One world's values for a refresh cycle: name, tick, smoothed TPS and how many players are in it.
+    private static final class WorldSnapshot {
+        static final WorldSnapshot NONE = new WorldSnapshot("world", 0L, 20.0, 0);
+
+        final String name;
+        final long tick;
+        final double tps;
+        final int players;
+        private final Map<PlaceholderProvider, String> values = new ConcurrentHashMap<>();
+
+        WorldSnapshot(String name, long tick, double tps, int players) {
+            this.name = name;
+            this.tick = tick;
+            this.tps = tps;
+            this.players = players;
+        }
+
+        String value(PlaceholderProvider provider, Player player) {
+            String value = values.get(provider);
+            if (value == null) {
+                value = provider.resolve(player);
+                if (value != null) {
+                    values.putIfAbsent(provider, value);
+                }
+            }
+            return value;
+        }
+    }
+
+    // Hashed timing wheel: a player sits in the slot of its next due tick, so each tick only visits the players due then.
+    // Entries further out than one revolution stay in their slot until their round comes up.
+    private static final class RefreshWheel {
+        private final List<Set<UUID>> slots = new ArrayList<>();
+        private final Map<UUID, Long> dueTicks = new HashMap<>();
+        private long tick;
+
+        RefreshWheel(int size) {
+            for (int i = 0; i < size; i++) {
+                slots.add(new java.util.HashSet<>());
+            }
+        }
+
+        synchronized void schedule(UUID id, long delayTicks) {
+            long due = tick + Math.max(1L, delayTicks);
+            dueTicks.put(id, due);
+            slots.get((int) Math.floorMod(due, (long) slots.size())).add(id);
+        }
+
+        // First due tick keeps a stable per-UUID phase within the interval, so the same players never share a tick by chance.
+        synchronized void scheduleStaggered(UUID id, long intervalTicks) {
+            long interval = Math.max(1L, intervalTicks);
+            long phase = Math.floorMod((long) id.hashCode(), interval);
+            long delay = Math.floorMod(phase - tick, interval);
+            schedule(id, delay == 0 ? interval : delay);
+        }
+
+        // Slot entries are dropped lazily when their slot comes round.
+        synchronized void remove(UUID id) {
+            dueTicks.remove(id);
+        }
+
+        synchronized void clear() {
+            dueTicks.clear();
+            for (Set<UUID> slot : slots) {
+                slot.clear();
+            }
+        }
+
+        synchronized List<UUID> advance() {
+            tick++;
+            int index = (int) Math.floorMod(tick, (long) slots.size());
+            Set<UUID> slot = slots.get(index);
+            if (slot.isEmpty()) {
+                return List.of();
+            }
+            List<UUID> due = new ArrayList<>();
+            java.util.Iterator<UUID> it = slot.iterator();
+            while (it.hasNext()) {
+                UUID id = it.next();
+                Long dueTick = dueTicks.get(id);
+                if (dueTick == null || Math.floorMod(dueTick, (long) slots.size()) != index) {
+                    it.remove();
+                } else if (dueTick == tick) {
+                    it.remove();
+                    dueTicks.remove(id);
+                    due.add(id);
+                }
+            }
+            return due;
+        }
+    }
+
+    private static final class WorldRefreshStats {
+        private final java.util.concurrent.atomic.AtomicInteger pending = new java.util.concurrent.atomic.AtomicInteger();
+        // Last time the world ran one of our batches, or the queue went from empty to busy.
+        private volatile long lastProgressMs = System.currentTimeMillis();
+        private long lastBatchNanos;
+        private int lastBatchPlayers;
+        private long totalNanos;
+        private long batches;
+        private long skippedBatches;
+        private boolean paused;
+
+        // False while the world already has MAX_PENDING_WORLD_BATCHES queued; logs when scoreboard work pauses and resumes.
+        boolean tryEnqueue(String worldName) {
+            while (true) {
+                int current = pending.get();
+                long now = System.currentTimeMillis();
+                if (current >= MAX_PENDING_WORLD_BATCHES && now - lastProgressMs >= STALE_QUEUED_WORK_MS
+                    && pending.compareAndSet(current, 0)) {
+                    // Nothing ran for a while: the queued batches were lost, not slow, so stop waiting for them.
+                    lastProgressMs = now;
+                    System.out.println("[BetterScoreBoard] World " + worldName + " ran none of its " + current + " queued scoreboard batches; dropping them");
+                    continue;
+                }
+                if (current >= MAX_PENDING_WORLD_BATCHES) {
+                    synchronized (this) {
+                        skippedBatches++;
+                        if (!paused) {
+                            paused = true;
+                            System.out.println("[BetterScoreBoard] World " + worldName + " is falling behind; pausing scoreboard refreshes there");
+                        }
+                    }
+                    return false;
+                }
+                if (pending.compareAndSet(current, current + 1)) {
+                    if (current == 0) {
+                        lastProgressMs = now;
+                    }
+                    synchronized (this) {
+                        if (paused) {
+                            paused = false;
+                            System.out.println("[BetterScoreBoard] World " + worldName + " caught up; resuming scoreboard refreshes (" + skippedBatches + " batches skipped)");
+                        }
+                    }
+                    return true;
+                }
+            }
+        }
+
+        // Batches dropped as stale may still run late; the count never goes below zero.
+        void dequeued() {
+            pending.updateAndGet(count -> count > 0 ? count - 1 : 0);
+            lastProgressMs = System.currentTimeMillis();
+        }
+
+        synchronized void record(long nanos, int players) {
+            lastBatchNanos = nanos;
+            lastBatchPlayers = players;
+            totalNanos += nanos;
+            batches++;
+        }
+
+        synchronized void appendSummary(StringBuilder out) {
+            out.append("last ");
+            ScoreboardFormat.appendFixed(out, lastBatchNanos / 1_000_000.0, 2);
+            out.append(" ms for ").append(lastBatchPlayers).append(lastBatchPlayers == 1 ? " player" : " players");
+            out.append(", avg ");
+            ScoreboardFormat.appendFixed(out, batches > 0 ? totalNanos / (double) batches / 1_000_000.0 : 0.0, 2);
+            out.append(" ms over ").append(batches).append(" batches, ").append(skippedBatches).append(" skipped");
+            if (paused) {
+                out.append(" (paused)");
+            }
+        }
+    }
+
+    // Measures a world's TPS over windows of at least a second and smooths successive samples.
+    private static final class WorldClock {
+        private static final long MIN_WINDOW_MS = 1000L;
+        private static final double SMOOTHING = 0.5;
+        private long lastTick;
+        private long lastTimeMs;
+        private double tps = 20.0;
+
+        WorldClock(long tick) {
+            this.lastTick = tick;
+            this.lastTimeMs = System.currentTimeMillis();
+        }
+
+        synchronized double sample(long tick, long now) {
+            long tickDelta = tick - lastTick;
+            long timeDelta = now - lastTimeMs;
+            if (tickDelta <= 0 || timeDelta <= 0) {
+                lastTick = tick;
+                lastTimeMs = now;
+                return tps;
+            }
+            if (timeDelta < MIN_WINDOW_MS) {
+                return tps;
+            }
+            double measured = Math.max(0.0, Math.min(20.0, tickDelta / (timeDelta / 1000.0)));
+            tps = tps + (measured - tps) * SMOOTHING;
+            lastTick = tick;
+            lastTimeMs = now;
+            return tps;
+        }
+    }
+
+    private static final class BuiltInPlaceholder implements PlaceholderProvider {
+        private final Scope scope;
+        private final boolean timeVarying;
+        private final long ttlMillis;
+        private final boolean async;
+        // Shown for async values until the first background fetch lands.
+        final String fallback;
+        private final java.util.function.Function<Player, String> resolver;
+        private final java.util.function.BiConsumer<Player, StringBuilder> appender;
+
+        private BuiltInPlaceholder(Scope scope, boolean timeVarying, long ttlMillis, boolean async, String fallback, java.util.function.Function<Player, String> resolver, java.util.function.BiConsumer<Player, StringBuilder> appender) {
+            this.scope = scope;
+            this.timeVarying = timeVarying;
+            this.ttlMillis = ttlMillis;
+            this.async = async;
+            this.fallback = fallback;
+            this.resolver = resolver;
+            this.appender = appender;
+        }
+
+        // Depends only on its scope's inputs (server, world, player identity).
+        static BuiltInPlaceholder fixed(Scope scope, java.util.function.Function<Player, String> resolver) {
+            return new BuiltInPlaceholder(scope, false, 0L, false, "", resolver, null);
+        }
+
+        // Cheap but changes on its own: written straight into the render buffer on every render.
+        static BuiltInPlaceholder live(Scope scope, java.util.function.BiConsumer<Player, StringBuilder> appender) {
+            return new BuiltInPlaceholder(scope, true, 0L, false, "", null, appender);
+        }
+
+        // Backed by another plugin's API: fetched off the world thread every ttlMillis.
+        static BuiltInPlaceholder async(long ttlMillis, String fallback, java.util.function.Function<Player, String> resolver) {
+            return new BuiltInPlaceholder(Scope.PLAYER, false, ttlMillis, true, fallback, resolver, null);
+        }
+
+        @Override
+        public String resolve(Player player) {
+            if (resolver != null) {
+                return resolver.apply(player);
+            }
+            StringBuilder out = new StringBuilder(16);
+            appender.accept(player, out);
+            return out.toString();
+        }
+
+        @Override
+        public boolean appendTo(Player player, StringBuilder out) {
+            if (appender == null) {
+                return PlaceholderProvider.super.appendTo(player, out);
+            }
+            appender.accept(player, out);
+            return true;
+        }
+
+        @Override
+        public Scope scope() {
+            return scope;
+        }
+
+        @Override
+        public boolean timeVarying() {
+            return timeVarying;
+        }
+
+        @Override
+        public long ttlMillis() {
+            return ttlMillis;
+        }
+
+        @Override
+        public boolean async() {
+            return async;
+        }
+    }
+
+    // Last resolved value per TTL provider for one scope holder; the epoch moves whenever a stored value changes.
+    private static final class PlaceholderValues {
+        private final Map<PlaceholderProvider, Entry> entries = new ConcurrentHashMap<>();
+        private volatile int epoch;
+
+        record Entry(String value, long expiresAtMs) {}
+
+        Entry get(PlaceholderProvider provider) {
+            return entries.get(provider);
+        }
+
+        // Only a value replacing a different one counts as a change: lines rendered before the first store already show it.
+        boolean put(PlaceholderProvider provider, String value, long expiresAtMs) {
+            Entry previous = entries.put(provider, new Entry(value, expiresAtMs));
+            if (previous == null || java.util.Objects.equals(previous.value(), value)) {
+                return false;
+            }
+            epoch++;
+            return true;
+        }
+
+        int epoch() {
+            return epoch;
         }
     }
 
     private static final class LineCacheEntry {
         final String raw;
         final ScoreboardView.LineRender render;
-
-        LineCacheEntry(String raw, ScoreboardView.LineRender render) {
+        final PlaceholderTemplate template;
+        final int onlineCount;
+        final World world;
+        final int worldPlayers;
+        final int sharedEpoch;
+        final int worldEpoch;
+        final int playerEpoch;
+        final int positionEpoch;
+
+        LineCacheEntry(String raw, ScoreboardView.LineRender render, PlaceholderTemplate template, int onlineCount, World world, int worldPlayers, int sharedEpoch, int worldEpoch, int playerEpoch, int positionEpoch) {
             this.raw = raw;
             this.render = render;
-        }
-    }
-
+            this.template = template;
+            this.onlineCount = onlineCount;
+            this.world = world;
+            this.worldPlayers = worldPlayers;
+            this.sharedEpoch = sharedEpoch;
+            this.worldEpoch = worldEpoch;
+            this.playerEpoch = playerEpoch;
+            this.positionEpoch = positionEpoch;
+        }
+
+        // World lines also key on the world's own player count, which moves without the server total when players change worlds.
+        boolean inputsMatch(PlaceholderProvider.Scope scope, int onlineCount, World world, int worldPlayers, int sharedEpoch, int worldEpoch, int playerEpoch) {
+            return switch (scope) {
+                case STATIC -> true;
+                case GLOBAL -> this.onlineCount == onlineCount && this.sharedEpoch == sharedEpoch;
+                case WORLD -> this.onlineCount == onlineCount && this.sharedEpoch == sharedEpoch && this.world == world && this.worldPlayers == worldPlayers
+                    && this.worldEpoch == worldEpoch;
+                case PLAYER -> this.onlineCount == onlineCount && this.sharedEpoch == sharedEpoch && this.world == world && this.worldPlayers == worldPlayers
+                    && this.worldEpoch == worldEpoch && this.playerEpoch == playerEpoch;
+            };
+        }
+    }
+
+    // Re-stages every player at its own page's interval; the wheel itself keeps ticking so rotation runs even when no page refreshes.
     private void scheduleRefresh() {
-        long interval = currentPage().refreshMs;
-        if (refreshTask != null) {
-            refreshTask.cancel(false);
+        refreshWheel.clear();
+        for (Map.Entry<UUID, TrackedHud> entry : huds.entrySet()) {
+            // A rotation, reload or edit changes what is shown, so any back-off starts over.
+            entry.getValue().unchangedRefreshes.set(0);
+            stageRefresh(entry.getKey(), entry.getValue());
         }
-        if (interval <= 0) {
-            refreshTask = null;
-            return;
+        if (refreshTask == null) {
+            refreshTask = refresher.scheduleAtFixedRate(() -> {
+                try {
+                    advanceRefreshWheel();
+                } catch (Throwable ignored) {
+                }
+            }, REFRESH_WHEEL_TICK_MS, REFRESH_WHEEL_TICK_MS, TimeUnit.MILLISECONDS);
         }
-        long clamped = Math.max(BetterScoreBoardConfig.MIN_REFRESH_MS, interval);
-        refreshTask = refresher.scheduleAtFixedRate(this::refreshAll, clamped, clamped, TimeUnit.MILLISECONDS);
     }
 
     private void schedulePlaytimeSave() {
@@ -2726,21 +3550,26 @@ final class BetterScoreBoardService {
         if (player == null || player.wasRemoved()) {
             return;
         }
-        boolean needsBalance = tracked.needsBalance();
-        boolean needsRank = tracked.needsRank();
-        boolean needsFaction = tracked.needsFaction();
-        if (!needsBalance && !needsRank && !needsFaction) {
+        PageState page = tracked.page;
+        Set<PlaceholderProvider> providers = page != null ? page.manifest.asyncProviders() : Set.of();
+        if (providers.isEmpty()) {
             return;
         }
-        if (needsBalance) {
-            tracked.updateBalance(fetchBalanceNow(player));
-        }
-        if (needsRank) {
-            String rank = fetchRankNow(player);
-            tracked.updateRank(rank != null ? normalizeLuckPermsColors(rank) : "");
-        }
-        if (needsFaction) {
-            tracked.updateFaction(fetchFactionSnapshot(player));
+        World world = player.getWorld();
+        long now = System.currentTimeMillis();
+        for (PlaceholderProvider provider : providers) {
+            PlaceholderValues values = valuesFor(provider, tracked, world);
+            if (values == null) {
+                continue;
+            }
+            PlaceholderValues.Entry cached = values.get(provider);
+            if (cached != null && now < cached.expiresAtMs()) {
+                continue;
+            }
+            try {
+                storeValue(values, provider, provider.resolve(player), now, tracked, world);
+            } catch (Throwable ignored) {
+            }
         }
     }
 
@@ -2748,7 +3577,8 @@ final class BetterScoreBoardService {
         if (tracked == null) {
             return;
         }
-        if (!tracked.needsBalance() && !tracked.needsRank() && !tracked.needsFaction()) {
+        PageState page = tracked.page;
+        if (page == null || page.manifest.asyncProviders().isEmpty()) {
             return;
         }
         dataRefresher.execute(() -> refreshDynamicDataFor(tracked));
@@ -2782,23 +3612,25 @@ final class BetterScoreBoardService {
         return config;
     }
 
-    private void maybeRotatePages() {
+    // True when the active page changed.
+    private boolean maybeRotatePages() {
         if (!rotationEnabled || pages.isEmpty()) {
-            return;
+            return false;
         }
         List<Integer> candidates = rotationCandidates();
         if (candidates.size() < 2) {
-            return;
+            return false;
         }
         long now = System.currentTimeMillis();
         if (now < nextRotationAtMs) {
-            return;
+            return false;
         }
         int currentIndex = clampPageIndex(activePageIndex);
         int nextIndex = nextCandidateIndex(candidates, currentIndex);
         activePageIndex = nextIndex;
         nextRotationAtMs = now + currentPage().durationMs;
         scheduleRefresh();
+        return true;
     }
 
     private List<Integer> rotationCandidates() {
@@ -2832,27 +3664,69 @@ final class BetterScoreBoardService {
         return candidates.get(nextPos);
     }
 
+    // What a page needs from the placeholder engine, rebuilt only when the page is compiled.
+    private record PageManifest(Set<PlaceholderProvider> asyncProviders, boolean positional) {
+
+        static PageManifest of(List<PlaceholderTemplate> templates) {
+            Set<PlaceholderProvider> async = new java.util.HashSet<>();
+            boolean positional = false;
+            for (PlaceholderTemplate template : templates) {
+                if (template == null) {
+                    continue;
+                }
+                positional |= template.positional();
+                for (PlaceholderProvider provider : template.providers()) {
+                    // Only providers referenced by the page are ever refreshed in the background.
+                    if (provider.async() && provider.ttlMillis() > 0L) {
+                        async.add(provider);
+                    }
+                }
+            }
+            return new PageManifest(Set.copyOf(async), positional);
+        }
+    }
+
     private static final class PageState {
         String title;
         List<String> lines;
         long durationMs;
         long refreshMs;
         List<String> worlds;
+        final PlaceholderRegistry registry;
+        // Compiled from title/lines; call compile() after mutating either.
+        volatile PlaceholderTemplate titleTemplate;
+        volatile List<PlaceholderTemplate> lineTemplates;
+        volatile PageManifest manifest;
 
-        PageState(String title, List<String> lines, long durationMs, long refreshMs, List<String> worlds) {
+        PageState(String title, List<String> lines, long durationMs, long refreshMs, List<String> worlds, PlaceholderRegistry registry) {
             this.title = title != null ? title : "";
             this.lines = lines != null ? lines : new ArrayList<>();
             this.durationMs = durationMs;
             this.refreshMs = refreshMs;
             this.worlds = worlds != null ? worlds : new ArrayList<>();
+            this.registry = registry;
+            compile();
+        }
+
+        void compile() {
+            PlaceholderTemplate compiledTitle = PlaceholderTemplate.compile(title, registry);
+            List<PlaceholderTemplate> compiledLines = new ArrayList<>(lines.size());
+            for (String line : lines) {
+                compiledLines.add(line != null ? PlaceholderTemplate.compile(line, registry) : null);
+            }
+            List<PlaceholderTemplate> all = new ArrayList<>(compiledLines);
+            all.add(compiledTitle);
+            this.manifest = PageManifest.of(all);
+            this.titleTemplate = compiledTitle;
+            this.lineTemplates = Collections.unmodifiableList(compiledLines);
         }
 
-        static PageState from(BetterScoreBoardConfig.PageConfig pageConfig) {
-            return new PageState(pageConfig.title(), new ArrayList<>(pageConfig.lines()), pageConfig.durationMillis(), pageConfig.refreshMillis(), new ArrayList<>(pageConfig.worlds()));
+        static PageState from(BetterScoreBoardConfig.PageConfig pageConfig, PlaceholderRegistry registry) {
+            return new PageState(pageConfig.title(), new ArrayList<>(pageConfig.lines()), pageConfig.durationMillis(), pageConfig.refreshMillis(), new ArrayList<>(pageConfig.worlds()), registry);
         }
 
-        static PageState emptyPage(int pageNumber) {
-            return new PageState("Page " + pageNumber, new ArrayList<>(), 8_000L, 2500L, new ArrayList<>());
+        static PageState emptyPage(int pageNumber, PlaceholderRegistry registry) {
+            return new PageState("Page " + pageNumber, new ArrayList<>(), 8_000L, 2500L, new ArrayList<>(), registry);
         }
 
         BetterScoreBoardConfig.PageConfig toConfig() {
@@ -0,0 +1,603 @@
+package com.gillodaby.betterscoreboard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// A {= ...} placeholder: parsed once into a node tree when the page compiles, with constant sub-trees folded away.
+// Placeholders are referenced by bare name, e.g. {= power / powermax * 100 } or {= tps >= 18 ? "[#55ff55]" : "[#ff5555]" }.
+final class PlaceholderExpression {
+
+    private final Node root;
+    private final Set<PlaceholderProvider> providers;
+
+    private PlaceholderExpression(Node root, Set<PlaceholderProvider> providers) {
+        this.root = root;
+        this.providers = Collections.unmodifiableSet(providers);
+    }
+
+    // Throws IllegalArgumentException on a syntax error or an unknown placeholder name.
+    static PlaceholderExpression parse(String source, PlaceholderRegistry registry) {
+        Parser parser = new Parser(source != null ? source : "", registry);
+        Node root = parser.parseExpression();
+        parser.skipSpaces();
+        if (parser.pos < parser.text.length()) {
+            throw new IllegalArgumentException("unexpected '" + parser.text.charAt(parser.pos) + "' at " + parser.pos);
+        }
+        return new PlaceholderExpression(root, parser.providers);
+    }
+
+    boolean isConstant() {
+        return root.constant();
+    }
+
+    // Placeholders the expression reads; the template folds them into its scope and the page manifest.
+    Set<PlaceholderProvider> providers() {
+        return providers;
+    }
+
+    // Referenced placeholders are resolved through the same resolver as the rest of the line.
+    void appendTo(StringBuilder out, PlaceholderTemplate.Resolver resolver) {
+        root.appendText(resolver, out);
+    }
+
+    private abstract static class Node {
+        // out doubles as scratch space: anything a node appends while computing a number is truncated again.
+        abstract double number(PlaceholderTemplate.Resolver resolver, StringBuilder out);
+
+        void appendText(PlaceholderTemplate.Resolver resolver, StringBuilder out) {
+            ScoreboardFormat.appendNumber(out, number(resolver, out));
+        }
+
+        boolean truthy(PlaceholderTemplate.Resolver resolver, StringBuilder out) {
+            double value = number(resolver, out);
+            return value != 0 && !Double.isNaN(value);
+        }
+
+        boolean constant() {
+            return false;
+        }
+
+        // String-typed at compile time, so + concatenates instead of adding.
+        boolean textual() {
+            return false;
+        }
+    }
+
+    private static final class NumberNode extends Node {
+        private final double value;
+
+        NumberNode(double value) {
+            this.value = value;
+        }
+
+        @Override
+        double number(PlaceholderTemplate.Resolver resolver, StringBuilder out) {
+            return value;
+        }
+
+        @Override
+        boolean constant() {
+            return true;
+        }
+    }
+
+    private static final class TextNode extends Node {
+        private final String text;
+        private final double value;
+
+        TextNode(String text) {
+            this.text = text;
+            this.value = ScoreboardFormat.parseNumber(text, 0, text.length());
+        }
+
+        @Override
+        double number(PlaceholderTemplate.Resolver resolver, StringBuilder out) {
+            return value;
+        }
+
+        @Override
+        void appendText(PlaceholderTemplate.Resolver resolver, StringBuilder out) {
+            out.append(text);
+        }
+
+        @Override
+        boolean truthy(PlaceholderTemplate.Resolver resolver, StringBuilder out) {
+            return !text.isEmpty();
+        }
+
+        @Override
+        boolean constant() {
+            return true;
+        }
+
+        @Override
+        boolean textual() {
+            return true;
+        }
+    }
+
+    private static final class RefNode extends Node {
+        private final PlaceholderProvider provider;
+        private final String token;
+
+        RefNode(PlaceholderProvider provider, String token) {
+            this.provider = provider;
+            this.token = token;
+        }
+
+        @Override
+        double number(PlaceholderTemplate.Resolver resolver, StringBuilder out) {
+            int start = out.length();
+            resolver.append(provider, token, out);
+            double value = ScoreboardFormat.parseNumber(out, start, out.length());
+            out.setLength(start);
+            return value;
+        }
+
+        @Override
+        void appendText(PlaceholderTemplate.Resolver resolver, StringBuilder out) {
+            resolver.append(provider, token, out);
+        }
+
+        // Numbers are truthy unless zero; any other non-blank text (a faction name, a rank) is truthy as it stands.
+        @Override
+        boolean truthy(PlaceholderTemplate.Resolver resolver, StringBuilder out) {
+            int start = out.length();
+            resolver.append(provider, token, out);
+            double value = ScoreboardFormat.parseNumber(out, start, out.length());
+            boolean truthy = Double.isNaN(value) ? !out.substring(start).isBlank() : value != 0;
+            out.setLength(start);
+            return truthy;
+        }
+    }
+
+    private static final class UnaryNode extends Node {
+        private final char op;
+        private final Node operand;
+
+        UnaryNode(char op, Node operand) {
+            this.op = op;
+            this.operand = operand;
+        }
+
+        @Override
+        double number(PlaceholderTemplate.Resolver resolver, StringBuilder out) {
+            if (op == '!') {
+                return operand.truthy(resolver, out) ? 0 : 1;
+            }
+            return -operand.number(resolver, out);
+        }
+    }
+
+    private static final class ArithmeticNode extends Node {
+        private final String op;
+        private final Node left;
+        private final Node right;
+
+        ArithmeticNode(String op, Node left, Node right) {
+            this.op = op;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        double number(PlaceholderTemplate.Resolver resolver, StringBuilder out) {
+            double a = left.number(resolver, out);
+            double b = right.number(resolver, out);
+            return switch (op) {
+                case "+" -> a + b;
+                case "-" -> a - b;
+                case "*" -> a * b;
+                case "/" -> a / b;
+                case "%" -> a % b;
+                case "<" -> a < b ? 1 : 0;
+                case "<=" -> a <= b ? 1 : 0;
+                case ">" -> a > b ? 1 : 0;
+                case ">=" -> a >= b ? 1 : 0;
+                default -> Double.NaN;
+            };
+        }
+    }
+
+    // == and != compare numerically when both sides are numbers, otherwise as text.
+    private static final class EqualityNode extends Node {
+        private final boolean negate;
+        private final Node left;
+        private final Node right;
+
+        EqualityNode(boolean negate, Node left, Node right) {
+            this.negate = negate;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        double number(PlaceholderTemplate.Resolver resolver, StringBuilder out) {
+            int start = out.length();
+            left.appendText(resolver, out);
+            int middle = out.length();
+            right.appendText(resolver, out);
+            int end = out.length();
+            double a = ScoreboardFormat.parseNumber(out, start, middle);
+            double b = ScoreboardFormat.parseNumber(out, middle, end);
+            boolean equal;
+            if (!Double.isNaN(a) && !Double.isNaN(b)) {
+                equal = a == b;
+            } else {
+                equal = middle - start == end - middle;
+                for (int i = 0; equal && i < middle - start; i++) {
+                    equal = out.charAt(start + i) == out.charAt(middle + i);
+                }
+            }
+            out.setLength(start);
+            return equal != negate ? 1 : 0;
+        }
+    }
+
+    private static final class LogicalNode extends Node {
+        private final boolean and;
+        private final Node left;
+        private final Node right;
+
+        LogicalNode(boolean and, Node left, Node right) {
+            this.and = and;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        double number(PlaceholderTemplate.Resolver resolver, StringBuilder out) {
+            boolean first = left.truthy(resolver, out);
+            if (and != first) {
+                return first ? 1 : 0;
+            }
+            return right.truthy(resolver, out) ? 1 : 0;
+        }
+    }
+
+    private static final class ConcatNode extends Node {
+        private final Node left;
+        private final Node right;
+
+        ConcatNode(Node left, Node right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        double number(PlaceholderTemplate.Resolver resolver, StringBuilder out) {
+            int start = out.length();
+            appendText(resolver, out);
+            double value = ScoreboardFormat.parseNumber(out, start, out.length());
+            out.setLength(start);
+            return value;
+        }
+
+        @Override
+        void appendText(PlaceholderTemplate.Resolver resolver, StringBuilder out) {
+            left.appendText(resolver, out);
+            right.appendText(resolver, out);
+        }
+
+        @Override
+        boolean textual() {
+            return true;
+        }
+    }
+
+    private static final class TernaryNode extends Node {
+        private final Node condition;
+        private final Node whenTrue;
+        private final Node whenFalse;
+
+        TernaryNode(Node condition, Node whenTrue, Node whenFalse) {
+            this.condition = condition;
+            this.whenTrue = whenTrue;
+            this.whenFalse = whenFalse;
+        }
+
+        @Override
+        double number(PlaceholderTemplate.Resolver resolver, StringBuilder out) {
+            return (condition.truthy(resolver, out) ? whenTrue : whenFalse).number(resolver, out);
+        }
+
+        @Override
+        void appendText(PlaceholderTemplate.Resolver resolver, StringBuilder out) {
+            (condition.truthy(resolver, out) ? whenTrue : whenFalse).appendText(resolver, out);
+        }
+
+        @Override
+        boolean textual() {
+            return whenTrue.textual() || whenFalse.textual();
+        }
+    }
+
+    private static final class CallNode extends Node {
+        private final String function;
+        private final Node[] args;
+
+        CallNode(String function, Node[] args) {
+            this.function = function;
+            this.args = args;
+        }
+
+        @Override
+        double number(PlaceholderTemplate.Resolver resolver, StringBuilder out) {
+            double first = args[0].number(resolver, out);
+            switch (function) {
+                case "min", "max" -> {
+                    double result = first;
+                    for (int i = 1; i < args.length; i++) {
+                        double next = args[i].number(resolver, out);
+                        result = function.equals("min") ? Math.min(result, next) : Math.max(result, next);
+                    }
+                    return result;
+                }
+                case "abs" -> {
+                    return Math.abs(first);
+                }
+                case "floor" -> {
+                    return Math.floor(first);
+                }
+                case "ceil" -> {
+                    return Math.ceil(first);
+                }
+                case "round" -> {
+                    return Math.round(first);
+                }
+                default -> {
+                    return first;
+                }
+            }
+        }
+
+        @Override
+        void appendText(PlaceholderTemplate.Resolver resolver, StringBuilder out) {
+            if (function.equals("fixed")) {
+                double value = args[0].number(resolver, out);
+                int decimals = args.length > 1 ? (int) args[1].number(resolver, out) : 0;
+                ScoreboardFormat.appendFixed(out, value, decimals);
+                return;
+            }
+            super.appendText(resolver, out);
+        }
+
+        @Override
+        boolean textual() {
+            return function.equals("fixed");
+        }
+    }
+
+    private static final class Parser {
+        private static final Set<String> FUNCTIONS = Set.of("min", "max", "abs", "floor", "ceil", "round", "fixed");
+
+        final String text;
+        final PlaceholderRegistry registry;
+        final Set<PlaceholderProvider> providers = new LinkedHashSet<>();
+        int pos;
+
+        Parser(String text, PlaceholderRegistry registry) {
+            this.text = text;
+            this.registry = registry;
+        }
+
+        Node parseExpression() {
+            Node condition = parseOr();
+            if (!accept("?")) {
+                return condition;
+            }
+            Node whenTrue = parseExpression();
+            expect(":");
+            Node whenFalse = parseExpression();
+            if (condition.constant()) {
+                return condition.truthy(null, new StringBuilder()) ? whenTrue : whenFalse;
+            }
+            return new TernaryNode(condition, whenTrue, whenFalse);
+        }
+
+        private Node parseOr() {
+            Node left = parseAnd();
+            while (accept("||")) {
+                Node right = parseAnd();
+                left = fold(new LogicalNode(false, left, right), left, right);
+            }
+            return left;
+        }
+
+        private Node parseAnd() {
+            Node left = parseEquality();
+            while (accept("&&")) {
+                Node right = parseEquality();
+                left = fold(new LogicalNode(true, left, right), left, right);
+            }
+            return left;
+        }
+
+        private Node parseEquality() {
+            Node left = parseComparison();
+            while (true) {
+                if (accept("==")) {
+                    Node right = parseComparison();
+                    left = fold(new EqualityNode(false, left, right), left, right);
+                } else if (accept("!=")) {
+                    Node right = parseComparison();
+                    left = fold(new EqualityNode(true, left, right), left, right);
+                } else {
+                    return left;
+                }
+            }
+        }
+
+        private Node parseComparison() {
+            Node left = parseAdditive();
+            while (true) {
+                String op = accept("<=") ? "<=" : accept(">=") ? ">=" : accept("<") ? "<" : accept(">") ? ">" : null;
+                if (op == null) {
+                    return left;
+                }
+                Node right = parseAdditive();
+                left = fold(new ArithmeticNode(op, left, right), left, right);
+            }
+        }
+
+        private Node parseAdditive() {
+            Node left = parseMultiplicative();
+            while (true) {
+                String op = accept("+") ? "+" : accept("-") ? "-" : null;
+                if (op == null) {
+                    return left;
+                }
+                Node right = parseMultiplicative();
+                Node node = op.equals("+") && (left.textual() || right.textual())
+                    ? new ConcatNode(left, right)
+                    : new ArithmeticNode(op, left, right);
+                left = fold(node, left, right);
+            }
+        }
+
+        private Node parseMultiplicative() {
+            Node left = parseUnary();
+            while (true) {
+                String op = accept("*") ? "*" : accept("/") ? "/" : accept("%") ? "%" : null;
+                if (op == null) {
+                    return left;
+                }
+                Node right = parseUnary();
+                left = fold(new ArithmeticNode(op, left, right), left, right);
+            }
+        }
+
+        private Node parseUnary() {
+            if (accept("-")) {
+                Node operand = parseUnary();
+                return fold(new UnaryNode('-', operand), operand);
+            }
+            if (accept("!")) {
+                Node operand = parseUnary();
+                return fold(new UnaryNode('!', operand), operand);
+            }
+            return parsePrimary();
+        }
+
+        private Node parsePrimary() {
+            skipSpaces();
+            if (pos >= text.length()) {
+                throw new IllegalArgumentException("unexpected end of expression");
+            }
+            char c = text.charAt(pos);
+            if (accept("(")) {
+                Node inner = parseExpression();
+                expect(")");
+                return inner;
+            }
+            if (c == '"' || c == '\'') {
+                int end = text.indexOf(c, pos + 1);
+                if (end < 0) {
+                    throw new IllegalArgumentException("unterminated string at " + pos);
+                }
+                String literal = text.substring(pos + 1, end);
+                pos = end + 1;
+                return new TextNode(literal);
+            }
+            if ((c >= '0' && c <= '9') || c == '.') {
+                int start = pos;
+                while (pos < text.length() && ((text.charAt(pos) >= '0' && text.charAt(pos) <= '9') || text.charAt(pos) == '.')) {
+                    pos++;
+                }
+                try {
+                    return new NumberNode(Double.parseDouble(text.substring(start, pos)));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("bad number '" + text.substring(start, pos) + "'");
+                }
+            }
+            if (Character.isLetter(c) || c == '_') {
+                int start = pos;
+                while (pos < text.length() && (Character.isLetterOrDigit(text.charAt(pos)) || text.charAt(pos) == '_')) {
+                    pos++;
+                }
+                String name = text.substring(start, pos).toLowerCase(Locale.ROOT);
+                if (accept("(")) {
+                    return parseCall(name);
+                }
+                if (name.equals("true") || name.equals("false")) {
+                    return new NumberNode(name.equals("true") ? 1 : 0);
+                }
+                PlaceholderProvider provider = registry.get(name);
+                if (provider == null) {
+                    throw new IllegalArgumentException("unknown placeholder '" + name + "'");
+                }
+                providers.add(provider);
+                return new RefNode(provider, "{" + name + "}");
+            }
+            throw new IllegalArgumentException("unexpected '" + c + "' at " + pos);
+        }
+
+        private Node parseCall(String name) {
+            if (!FUNCTIONS.contains(name)) {
+                throw new IllegalArgumentException("unknown function '" + name + "'");
+            }
+            List<Node> args = new ArrayList<>();
+            if (!accept(")")) {
+                do {
+                    args.add(parseExpression());
+                } while (accept(","));
+                expect(")");
+            }
+            if (args.isEmpty()) {
+                throw new IllegalArgumentException(name + "() needs an argument");
+            }
+            Node[] array = args.toArray(new Node[0]);
+            return fold(new CallNode(name, array), array);
+        }
+
+        // Evaluates a node once at compile time when every operand is constant.
+        private Node fold(Node node, Node... operands) {
+            for (Node operand : operands) {
+                if (!operand.constant()) {
+                    return node;
+                }
+            }
+            StringBuilder scratch = new StringBuilder();
+            if (node.textual()) {
+                node.appendText(null, scratch);
+                return new TextNode(scratch.toString());
+            }
+            return new NumberNode(node.number(null, scratch));
+        }
+
+        void skipSpaces() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private boolean accept(String token) {
+            skipSpaces();
+            if (!text.startsWith(token, pos)) {
+                return false;
+            }
+            // Keep "<" from swallowing the first half of "<=" and "!" from eating "!=", and so on.
+            if (token.length() == 1 && pos + 1 < text.length()) {
+                char next = text.charAt(pos + 1);
+                if ((token.equals("<") || token.equals(">") || token.equals("!")) && next == '=') {
+                    return false;
+                }
+                if ((token.equals("|") || token.equals("&")) && next == token.charAt(0)) {
+                    return false;
+                }
+            }
+            pos += token.length();
+            return true;
+        }
+
+        private void expect(String token) {
+            if (!accept(token)) {
+                throw new IllegalArgumentException("expected '" + token + "' at " + pos);
+            }
+        }
+    }
+}
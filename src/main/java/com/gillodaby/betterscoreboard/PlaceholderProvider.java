@@ -0,0 +1,68 @@
+package com.gillodaby.betterscoreboard;
+
+import com.hypixel.hytale.server.core.entity.entities.Player;
+
+import java.util.function.Function;
+
+// Resolves one placeholder. Other plugins register providers through BetterScoreBoardPlugin#placeholders().
+public interface PlaceholderProvider {
+
+    // What a value depends on, from narrowest to widest; a line takes the widest scope of its placeholders.
+    enum Scope {
+        STATIC,
+        GLOBAL,
+        WORLD,
+        PLAYER
+    }
+
+    // Returning null leaves the placeholder as written.
+    String resolve(Player player);
+
+    // Writes the value into the render buffer; returns false to leave the placeholder as written.
+    default boolean appendTo(Player player, StringBuilder out) {
+        String value = resolve(player);
+        if (value == null) {
+            return false;
+        }
+        out.append(value);
+        return true;
+    }
+
+    default Scope scope() {
+        return Scope.PLAYER;
+    }
+
+    // Time-varying values can change without any scoped input changing, so lines using them are never reused.
+    default boolean timeVarying() {
+        return true;
+    }
+
+    // How long a resolved value is reused; 0 resolves on every render.
+    default long ttlMillis() {
+        return 0L;
+    }
+
+    // Async providers are refreshed off the world thread once their TTL expires; renders read the last value.
+    default boolean async() {
+        return false;
+    }
+
+    static PlaceholderProvider of(Scope scope, long ttlMillis, Function<Player, String> resolver) {
+        return new PlaceholderProvider() {
+            @Override
+            public String resolve(Player player) {
+                return resolver.apply(player);
+            }
+
+            @Override
+            public Scope scope() {
+                return scope;
+            }
+
+            @Override
+            public long ttlMillis() {
+                return ttlMillis;
+            }
+        };
+    }
+}
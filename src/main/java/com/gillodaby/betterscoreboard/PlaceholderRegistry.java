@@ -0,0 +1,118 @@
+package com.gillodaby.betterscoreboard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Name -> provider table shared by all pages; names are written as {name} or %name% in titles and lines.
+public final class PlaceholderRegistry {
+
+    private final Object lock = new Object();
+    // Copy-on-write: registrations are rare, lookups happen on every template compile.
+    private volatile Map<String, PlaceholderProvider> providers = Collections.emptyMap();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    public void register(String name, PlaceholderProvider provider) {
+        put(name, provider, true);
+    }
+
+    public boolean unregister(String name) {
+        String key = normalize(name);
+        if (key == null) {
+            return false;
+        }
+        synchronized (lock) {
+            if (!providers.containsKey(key)) {
+                return false;
+            }
+            Map<String, PlaceholderProvider> next = new LinkedHashMap<>(providers);
+            next.remove(key);
+            providers = Collections.unmodifiableMap(next);
+        }
+        notifyListeners();
+        return true;
+    }
+
+    // Removes name only while it still maps to provider, so another plugin's replacement is left alone.
+    boolean unregister(String name, PlaceholderProvider provider) {
+        String key = normalize(name);
+        if (key == null) {
+            return false;
+        }
+        synchronized (lock) {
+            if (providers.get(key) != provider) {
+                return false;
+            }
+            Map<String, PlaceholderProvider> next = new LinkedHashMap<>(providers);
+            next.remove(key);
+            providers = Collections.unmodifiableMap(next);
+        }
+        notifyListeners();
+        return true;
+    }
+
+    public List<String> names() {
+        return new ArrayList<>(providers.keySet());
+    }
+
+    // Built-ins never replace a provider another plugin registered first; returns whether it was registered.
+    boolean registerDefault(String name, PlaceholderProvider provider) {
+        return put(name, provider, false);
+    }
+
+    PlaceholderProvider get(String name) {
+        return providers.get(name);
+    }
+
+    void onChange(Runnable listener) {
+        if (listener != null) {
+            listeners.add(listener);
+        }
+    }
+
+    void removeListener(Runnable listener) {
+        listeners.remove(listener);
+    }
+
+    private boolean put(String name, PlaceholderProvider provider, boolean replace) {
+        String key = normalize(name);
+        if (key == null || provider == null) {
+            throw new IllegalArgumentException("Placeholder name and provider are required");
+        }
+        synchronized (lock) {
+            if (!replace && providers.containsKey(key)) {
+                return false;
+            }
+            Map<String, PlaceholderProvider> next = new LinkedHashMap<>(providers);
+            next.put(key, provider);
+            providers = Collections.unmodifiableMap(next);
+        }
+        notifyListeners();
+        return true;
+    }
+
+    private void notifyListeners() {
+        for (Runnable listener : listeners) {
+            try {
+                listener.run();
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    // Lower-case name with any surrounding {} or % stripped; null when blank. Config keys go through the same rules.
+    static String normalize(String name) {
+        if (name == null) {
+            return null;
+        }
+        String trimmed = name.trim();
+        if (trimmed.length() > 2 && ((trimmed.startsWith("{") && trimmed.endsWith("}")) || (trimmed.startsWith("%") && trimmed.endsWith("%")))) {
+            trimmed = trimmed.substring(1, trimmed.length() - 1);
+        }
+        return trimmed.isEmpty() ? null : trimmed.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,155 @@
+package com.gillodaby.betterscoreboard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// A title or line split once into literal chunks and placeholder references, so rendering is a single append pass.
+final class PlaceholderTemplate {
+
+    // Marks providers whose value changes only when the player's block or chunk does; see TrackedHud#samplePosition.
+    interface PositionDependent {
+    }
+
+    interface Resolver {
+        // token is the placeholder as written, for providers that leave it unresolved.
+        void append(PlaceholderProvider provider, String token, StringBuilder out);
+    }
+
+    // literals[i] precedes element i, which is providers[i] or, for {= ...}, expressions[i]; the last literal trails the final element.
+    private final String[] literals;
+    private final PlaceholderProvider[] providers;
+    private final PlaceholderExpression[] expressions;
+    private final String[] tokens;
+    private final Set<PlaceholderProvider> used;
+    private final PlaceholderProvider.Scope scope;
+    private final boolean timeVarying;
+    private final boolean positional;
+
+    private PlaceholderTemplate(String[] literals, PlaceholderProvider[] providers, PlaceholderExpression[] expressions, String[] tokens) {
+        this.literals = literals;
+        this.providers = providers;
+        this.expressions = expressions;
+        this.tokens = tokens;
+        Set<PlaceholderProvider> distinct = new LinkedHashSet<>();
+        for (int i = 0; i < providers.length; i++) {
+            if (expressions[i] != null) {
+                distinct.addAll(expressions[i].providers());
+            } else {
+                distinct.add(providers[i]);
+            }
+        }
+        this.used = Collections.unmodifiableSet(distinct);
+        PlaceholderProvider.Scope widest = PlaceholderProvider.Scope.STATIC;
+        boolean varying = false;
+        boolean position = false;
+        for (PlaceholderProvider provider : distinct) {
+            position |= provider instanceof PositionDependent;
+            if (provider.scope().compareTo(widest) > 0) {
+                widest = provider.scope();
+            }
+            varying |= provider.timeVarying();
+        }
+        this.scope = widest;
+        this.timeVarying = varying;
+        this.positional = position;
+    }
+
+    // Both {name} and %name% forms are recognised; names the registry does not know stay literal text.
+    // {= ...} is an expression; one that fails to parse is logged and also left as written.
+    static PlaceholderTemplate compile(String source, PlaceholderRegistry registry) {
+        String text = source != null ? source : "";
+        List<String> literals = new ArrayList<>();
+        List<PlaceholderProvider> providers = new ArrayList<>();
+        List<PlaceholderExpression> expressions = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        StringBuilder literal = new StringBuilder(text.length());
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c == '{' && i + 1 < text.length() && text.charAt(i + 1) == '=') {
+                int end = text.indexOf('}', i + 2);
+                PlaceholderExpression expression = end > i ? parseExpression(text.substring(i + 2, end), registry) : null;
+                if (expression != null) {
+                    if (expression.isConstant()) {
+                        expression.appendTo(literal, null);
+                    } else {
+                        literals.add(literal.toString());
+                        literal.setLength(0);
+                        providers.add(null);
+                        expressions.add(expression);
+                        tokens.add(text.substring(i, end + 1));
+                    }
+                    i = end + 1;
+                    continue;
+                }
+            }
+            if (c == '{' || c == '%') {
+                int end = text.indexOf(c == '{' ? '}' : '%', i + 1);
+                PlaceholderProvider provider = end > i ? registry.get(text.substring(i + 1, end)) : null;
+                if (provider != null) {
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    providers.add(provider);
+                    expressions.add(null);
+                    tokens.add(text.substring(i, end + 1));
+                    i = end + 1;
+                    continue;
+                }
+            }
+            literal.append(c);
+            i++;
+        }
+        literals.add(literal.toString());
+        return new PlaceholderTemplate(literals.toArray(new String[0]), providers.toArray(new PlaceholderProvider[0]),
+            expressions.toArray(new PlaceholderExpression[0]), tokens.toArray(new String[0]));
+    }
+
+    private static PlaceholderExpression parseExpression(String source, PlaceholderRegistry registry) {
+        try {
+            return PlaceholderExpression.parse(source, registry);
+        } catch (IllegalArgumentException e) {
+            System.out.println("[BetterScoreBoard] Invalid expression {=" + source + "}: " + e.getMessage());
+            return null;
+        }
+    }
+
+    PlaceholderProvider.Scope scope() {
+        return scope;
+    }
+
+    boolean timeVarying() {
+        return timeVarying;
+    }
+
+    boolean positional() {
+        return positional;
+    }
+
+    Set<PlaceholderProvider> providers() {
+        return used;
+    }
+
+    String render(StringBuilder buffer, Resolver resolver) {
+        if (providers.length == 0) {
+            return literals[0];
+        }
+        buffer.setLength(0);
+        appendTo(buffer, resolver);
+        return buffer.toString();
+    }
+
+    void appendTo(StringBuilder out, Resolver resolver) {
+        for (int i = 0; i < providers.length; i++) {
+            out.append(literals[i]);
+            if (expressions[i] != null) {
+                expressions[i].appendTo(out, resolver);
+            } else {
+                resolver.append(providers[i], tokens[i], out);
+            }
+        }
+        out.append(literals[providers.length]);
+    }
+}
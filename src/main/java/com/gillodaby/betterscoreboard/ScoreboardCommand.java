@@ -15,6 +15,7 @@ import java.util.concurrent.CompletableFuture;
  * /scoreboard add <text...>
  * /scoreboard remove <index>
  * /scoreboard save
+ * /scoreboard stats
  */
 final class ScoreboardCommand extends AbstractCommand {
 
@@ -87,6 +88,15 @@ final class ScoreboardCommand extends AbstractCommand {
         };
         addSubCommand(save);
 
+        // stats
+        AbstractCommand stats = new AbstractCommand("stats", "Show scoreboard refresh timings per world") {
+            @Override
+            protected CompletableFuture<Void> execute(CommandContext ctx) {
+                return handleStats(ctx);
+            }
+        };
+        addSubCommand(stats);
+
         // show
         AbstractCommand show = new AbstractCommand("show", "Show the scoreboard HUD") {
             @Override
@@ -310,6 +320,15 @@ final class ScoreboardCommand extends AbstractCommand {
         return CompletableFuture.completedFuture(null);
     }
 
+    private CompletableFuture<Void> handleStats(CommandContext ctx) {
+        if (!ctx.isPlayer() || !ctx.senderAs(Player.class).hasPermission("betterscoreboard.stats")) {
+            ctx.sendMessage(service.text("[BetterScoreBoard] Missing permission: betterscoreboard.stats"));
+            return CompletableFuture.completedFuture(null);
+        }
+        ctx.sendMessage(service.text(service.refreshStatsLine()));
+        return CompletableFuture.completedFuture(null);
+    }
+
     private CompletableFuture<Void> handleHelp(CommandContext ctx) {
         if (!ctx.isPlayer() || !ctx.senderAs(Player.class).hasPermission("betterscoreboard.help")) {
             ctx.sendMessage(service.text("[BetterScoreBoard] Permission permission: betterscoreboard.help"));
@@ -324,6 +343,7 @@ final class ScoreboardCommand extends AbstractCommand {
             "  tip: you can wrap text in quotes to keep spaces, e.g. /scoreboard add \"    centered text    \"",
             "/scoreboard remove <index>",
             "/scoreboard save",
+            "/scoreboard stats",
             "/scoreboard divider [on|off|toggle]",
             "/scoreboard logo [on|off|toggle]",
             "/scoreboard show",
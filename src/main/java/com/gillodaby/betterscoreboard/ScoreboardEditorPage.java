@@ -19,6 +19,9 @@ import java.util.List;
 
 final class ScoreboardEditorPage extends InteractiveCustomUIPage<ScoreboardEditorPage.EditorEventData> {
 
+    // The editor document has a fixed number of line inputs, independent of the generated HUD size.
+    private static final int EDITOR_LINES = 12;
+
     private final PlayerRef playerRef;
     private final BetterScoreBoardService service;
     private BetterScoreBoardConfig config;
@@ -69,8 +72,8 @@ final class ScoreboardEditorPage extends InteractiveCustomUIPage<ScoreboardEdito
             builder.set(selector, true);
         }
 
-        int max = Math.min(BetterScoreBoardHud.MAX_LINES, Math.max(1, config.maxLines()));
-        for (int i = 0; i < BetterScoreBoardHud.MAX_LINES; i++) {
+        int max = Math.min(Math.min(EDITOR_LINES, BetterScoreBoardHud.MAX_LINES), Math.max(1, config.maxLines()));
+        for (int i = 0; i < EDITOR_LINES; i++) {
             String rowSelector = "#Line" + (i + 1) + "Row.Visible";
             String valueSelector = "#Line" + (i + 1) + "Input.Value";
             String colorSelector = "#Line" + (i + 1) + "Color.Value";
@@ -113,7 +116,7 @@ final class ScoreboardEditorPage extends InteractiveCustomUIPage<ScoreboardEdito
         for (EventData pageEvent : pageEvents) {
             pageEvent.append("@PageWorlds", "#PageWorldsInput.Value");
         }
-        for (int i = 0; i < BetterScoreBoardHud.MAX_LINES; i++) {
+        for (int i = 0; i < EDITOR_LINES; i++) {
             String key = "@Line" + (i + 1);
             String selector = "#Line" + (i + 1) + "Input.Value";
             String colorHexKey = "@ColorHex" + (i + 1);
@@ -194,6 +197,11 @@ final class ScoreboardEditorPage extends InteractiveCustomUIPage<ScoreboardEdito
         values.add(encodeLine(resolveColor(data.colorHex10), data.line10));
         values.add(encodeLine(resolveColor(data.colorHex11), data.line11));
         values.add(encodeLine(resolveColor(data.colorHex12), data.line12));
+        List<String> existing = currentPage().lines;
+        for (int i = EDITOR_LINES; existing != null && i < existing.size(); i++) {
+            // Lines beyond the editor's inputs are kept as they are.
+            values.add(existing.get(i));
+        }
         double durationSeconds = parseDoubleOrDefault(data.pageDuration, currentPage().durationSeconds);
         double refreshSeconds = parseDoubleOrDefault(data.pageRefresh, currentPage().refreshSeconds);
         List<String> worlds = parseWorlds(data.pageWorlds);
@@ -377,8 +385,8 @@ final class ScoreboardEditorPage extends InteractiveCustomUIPage<ScoreboardEdito
         builder.set("#PageDurationInput.Value", formatSeconds(current.durationSeconds));
         builder.set("#PageRefreshInput.Value", formatSeconds(current.refreshSeconds));
         builder.set("#PageWorldsInput.Value", formatWorlds(current.worlds));
-        int max = Math.min(BetterScoreBoardHud.MAX_LINES, Math.max(1, config.maxLines()));
-        for (int i = 0; i < BetterScoreBoardHud.MAX_LINES; i++) {
+        int max = Math.min(Math.min(EDITOR_LINES, BetterScoreBoardHud.MAX_LINES), Math.max(1, config.maxLines()));
+        for (int i = 0; i < EDITOR_LINES; i++) {
             String rowSelector = "#Line" + (i + 1) + "Row.Visible";
             String valueSelector = "#Line" + (i + 1) + "Input.Value";
             String colorSelector = "#Line" + (i + 1) + "Color.Value";
@@ -0,0 +1,164 @@
+package com.gillodaby.betterscoreboard;
+
+// Number and duration formatting that writes straight into a caller's buffer instead of going through String.format.
+final class ScoreboardFormat {
+
+    private static final int INT_CACHE_MIN = -256;
+    private static final int INT_CACHE_MAX = 4_096;
+    private static final String[] INT_CACHE = buildIntCache();
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L};
+    // Scaled values below this stay exact in a double and fit a long with room to spare.
+    private static final double MAX_EXACT_SCALED = 1e15;
+
+    private ScoreboardFormat() {
+    }
+
+    // Same output as String.format("%02dh %02dm %02ds", hours, minutes, seconds).
+    static void appendDuration(StringBuilder out, long totalSeconds) {
+        long seconds = Math.max(0L, totalSeconds);
+        long hours = seconds / 3600;
+        appendTwoDigits(out, hours);
+        out.append("h ");
+        appendTwoDigits(out, (seconds % 3600) / 60);
+        out.append("m ");
+        appendTwoDigits(out, seconds % 60);
+        out.append('s');
+    }
+
+    // Same output as String.format(Locale.ROOT, "%.1f", value) for finite values: always a '.' separator, whatever the
+    // server locale (the old String.format call used the default locale), and negatives that round to zero keep their sign.
+    static void appendTenths(StringBuilder out, double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            out.append(value);
+            return;
+        }
+        appendFixed(out, value, 1);
+    }
+
+    // Same output as String.format(Locale.ROOT, "%." + decimals + "f", value), for 0-6 decimals; NaN and infinities print as 0.
+    static void appendFixed(StringBuilder out, double value, int decimals) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            out.append('0');
+            return;
+        }
+        int places = Math.max(0, Math.min(6, decimals));
+        long scale = POWERS_OF_TEN[places];
+        if (isNegative(value)) {
+            out.append('-');
+        }
+        double product = Math.abs(value) * scale;
+        // Huge values would overflow the long, and near-ties (1.005 is 1.00499... in binary) must round like String.format,
+        // which rounds the shortest decimal form half-up; both rare cases go through BigDecimal.
+        if (product >= MAX_EXACT_SCALED || Math.abs(product - Math.floor(product) - 0.5) < Math.max(1e-6, 8 * Math.ulp(product))) {
+            out.append(java.math.BigDecimal.valueOf(Math.abs(value)).setScale(places, java.math.RoundingMode.HALF_UP).toPlainString());
+            return;
+        }
+        long scaled = Math.round(product);
+        appendInt(out, scaled / scale);
+        if (places == 0) {
+            return;
+        }
+        out.append('.');
+        long fraction = scaled % scale;
+        for (long digit = scale / 10; digit > 1 && fraction < digit; digit /= 10) {
+            out.append('0');
+        }
+        out.append(fraction);
+    }
+
+    // Whole numbers without a fraction, everything else with up to two decimals; NaN and infinities print as 0.
+    static void appendNumber(StringBuilder out, double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            appendInt(out, (long) value);
+            return;
+        }
+        int start = out.length();
+        appendFixed(out, value, 2);
+        int end = out.length();
+        while (end > start && out.charAt(end - 1) == '0' && out.indexOf(".", start) >= 0) {
+            end--;
+        }
+        if (end > start && out.charAt(end - 1) == '.') {
+            end--;
+        }
+        out.setLength(end);
+        // A tiny negative fraction rounds away entirely; a whole zero has no sign here.
+        if (end - start == 2 && out.charAt(start) == '-' && out.charAt(start + 1) == '0') {
+            out.deleteCharAt(start);
+        }
+    }
+
+    // Leading number of a placeholder value such as "1,250.5$" or "87%"; NaN when it does not start with one.
+    static double parseNumber(CharSequence text, int start, int end) {
+        int i = start;
+        while (i < end && Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        boolean negative = false;
+        if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            negative = text.charAt(i) == '-';
+            i++;
+        }
+        double value = 0;
+        boolean digits = false;
+        for (; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                digits = true;
+            } else if (c != ',') {
+                break;
+            }
+        }
+        if (i < end && text.charAt(i) == '.') {
+            double place = 0.1;
+            for (i++; i < end; i++) {
+                char c = text.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                value += (c - '0') * place;
+                place /= 10;
+                digits = true;
+            }
+        }
+        if (!digits) {
+            return Double.NaN;
+        }
+        return negative ? -value : value;
+    }
+
+    private static boolean isNegative(double value) {
+        return value < 0 || (value == 0 && 1 / value < 0);
+    }
+
+    static void appendInt(StringBuilder out, long value) {
+        if (value >= INT_CACHE_MIN && value < INT_CACHE_MAX) {
+            out.append(INT_CACHE[(int) value - INT_CACHE_MIN]);
+            return;
+        }
+        out.append(value);
+    }
+
+    static String intString(long value) {
+        if (value >= INT_CACHE_MIN && value < INT_CACHE_MAX) {
+            return INT_CACHE[(int) value - INT_CACHE_MIN];
+        }
+        return Long.toString(value);
+    }
+
+    private static void appendTwoDigits(StringBuilder out, long value) {
+        if (value < 10) {
+            out.append('0');
+        }
+        out.append(value);
+    }
+
+    private static String[] buildIntCache() {
+        String[] cache = new String[INT_CACHE_MAX - INT_CACHE_MIN];
+        for (int i = 0; i < cache.length; i++) {
+            cache[i] = Integer.toString(i + INT_CACHE_MIN);
+        }
+        return cache;
+    }
+}
@@ -1,9 +1,150 @@
 package com.gillodaby.betterscoreboard;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
-record ScoreboardView(String title, String titleColor, String logoTexturePath, boolean logoVisible, int offsetRight, int offsetTop, List<ScoreboardView.LineRender> lines, boolean dividerVisible) {
-    record LineRender(List<LineSegment> segments, boolean bold) {}
+// Every view and line gets a version stamp when it is built. Lines are interned by their text, so equal lines
+// usually share a stamp, and views compare their scalars and line stamps instead of walking every segment.
+final class ScoreboardView {
+
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private final String title;
+    private final String titleColor;
+    private final String logoTexturePath;
+    private final boolean logoVisible;
+    private final int offsetRight;
+    private final int offsetTop;
+    private final List<LineRender> lines;
+    private final boolean dividerVisible;
+    private final long version = VERSIONS.incrementAndGet();
+    private final int contentHash;
+
+    ScoreboardView(String title, String titleColor, String logoTexturePath, boolean logoVisible, int offsetRight, int offsetTop, List<LineRender> lines, boolean dividerVisible) {
+        this.title = title;
+        this.titleColor = titleColor;
+        this.logoTexturePath = logoTexturePath;
+        this.logoVisible = logoVisible;
+        this.offsetRight = offsetRight;
+        this.offsetTop = offsetTop;
+        this.lines = lines;
+        this.dividerVisible = dividerVisible;
+        int hash = Objects.hash(title, titleColor, logoTexturePath, logoVisible, offsetRight, offsetTop, dividerVisible);
+        for (LineRender line : lines) {
+            hash = 31 * hash + Long.hashCode(line.version);
+        }
+        this.contentHash = hash;
+    }
+
+    String title() {
+        return title;
+    }
+
+    String titleColor() {
+        return titleColor;
+    }
+
+    String logoTexturePath() {
+        return logoTexturePath;
+    }
+
+    boolean logoVisible() {
+        return logoVisible;
+    }
+
+    int offsetRight() {
+        return offsetRight;
+    }
+
+    int offsetTop() {
+        return offsetTop;
+    }
+
+    List<LineRender> lines() {
+        return lines;
+    }
+
+    boolean dividerVisible() {
+        return dividerVisible;
+    }
+
+    // Views are interned, so an unchanged board is usually the same instance and a changed one a different hash.
+    // Only an equal view rebuilt after the interner was flushed falls through to the per-line stamp check.
+    boolean sameContent(ScoreboardView other) {
+        return other != null && (version == other.version || equals(other));
+    }
+
+    @Override
+    public int hashCode() {
+        return contentHash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ScoreboardView other) || contentHash != other.contentHash) {
+            return false;
+        }
+        if (logoVisible != other.logoVisible
+            || offsetRight != other.offsetRight
+            || offsetTop != other.offsetTop
+            || dividerVisible != other.dividerVisible
+            || !Objects.equals(title, other.title)
+            || !Objects.equals(titleColor, other.titleColor)
+            || !Objects.equals(logoTexturePath, other.logoTexturePath)
+            || lines.size() != other.lines.size()) {
+            return false;
+        }
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).version != other.lines.get(i).version) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "ScoreboardView[title=" + title + ", lines=" + lines.size() + ", version=" + version + "]";
+    }
+
+    // Identity is the version stamp: the service interns lines by their processed text, so equal content shares one.
+    static final class LineRender {
+        private final List<LineSegment> segments;
+        private final boolean bold;
+        private final long version = VERSIONS.incrementAndGet();
+
+        LineRender(List<LineSegment> segments, boolean bold) {
+            this.segments = segments;
+            this.bold = bold;
+        }
+
+        List<LineSegment> segments() {
+            return segments;
+        }
+
+        boolean bold() {
+            return bold;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(version);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || (o instanceof LineRender other && version == other.version);
+        }
+
+        @Override
+        public String toString() {
+            return "LineRender[segments=" + segments + ", bold=" + bold + "]";
+        }
+    }
 
     record LineSegment(String text, String color, boolean bold) {}
 }